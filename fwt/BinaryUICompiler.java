@@ -0,0 +1,282 @@
+package com.arboreantears.fwt;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map.Entry;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.badlogic.gdx.graphics.Color;
+
+
+
+/** Offline compiler of UI XML files into binary UI layouts (see {@link BinaryUILayout}).
+ * <p> Usage: <code>BinaryUICompiler &lt;ui directory&gt; [default properties filename]</code>
+ * <br> Every '.xml' file in the directory (except the default properties file) is compiled to a '.fwtb' file beside it.
+ * The default properties file must be in the directory: compilation fails without it. */
+public class BinaryUICompiler extends DefaultHandler
+{
+
+
+
+	// VARIABLES
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+	/** Default component properties, keyed by component type. */
+	HashMap<String,XMLDataPacket> defaults;
+
+	/** Parent-file name of the layout being compiled (no extension). */
+	String parentFile;
+
+	/** Compiled components in document order. */
+	ArrayList<XMLDataPacket> components = new ArrayList<XMLDataPacket>();
+	/** Component level of each compiled component. 0 is root window level. */
+	ArrayList<Integer> levels = new ArrayList<Integer>();
+	/** Current component level. 0 is root window level. */
+	int componentLevel = -1;
+
+
+
+
+	// CONSTRUCTORS
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+	/** Create a UI layout compiler using the given default component properties (keyed by component type). */
+	public BinaryUICompiler(HashMap<String,XMLDataPacket> defaults)
+	{
+		this.defaults = defaults;
+	}
+
+
+
+
+	// COMMAND LINE
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+
+	/** Compiles every UI XML file in the given directory. */
+	public static void main(String[] args)
+	{
+		if (args.length < 1)
+		{
+			System.err.println("Usage: BinaryUICompiler <ui directory> [default properties filename]");
+			System.exit(1);
+		}
+
+		File dir = new File(args[0]);
+		String defaultsName = (args.length > 1) ? args[1] : "UI_defaults";
+
+		try{
+			// Defaults are merged into every layout, compiling without them would produce incomplete layouts
+			File defaultsFile = new File(dir, defaultsName+".xml");
+			if (!defaultsFile.exists())
+				throw new Exception("No default properties file: "+defaultsFile.getPath());
+			HashMap<String,XMLDataPacket> defaults = new XMLUIReader().readIndex(defaultsFile.getPath());
+
+			File[] files = dir.listFiles();
+			if (files == null) throw new Exception("Not a directory: "+dir.getPath());
+			int compiled = 0;
+			for (File file : files)
+			{
+				String name = file.getName();
+				if (!name.endsWith(".xml") || name.equals(defaultsName+".xml")) continue;
+				String base = name.substring(0, name.length()-4);
+				new BinaryUICompiler(defaults).compile(file, new File(dir, base+BinaryUILayout.EXTENSION), base);
+				compiled++;
+			}
+			FWTController.log("BinaryUICompiler: Compiled "+compiled+" UI layouts in "+dir.getPath());
+		}catch(Exception ex)
+		{
+			FWTController.error("BinaryUICompiler: "+ex.getMessage());
+			System.exit(1);
+		}
+	}
+
+
+
+
+	// COMPILE
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+
+	/** Compiles the given UI XML file with the given parent-file name (no extension) to the given output file. */
+	public void compile(File xmlFile, File outFile, String parentFile) throws Exception
+	{
+		this.parentFile = parentFile;
+
+		try{
+			XMLThreadParser.parse(xmlFile.getPath(), this);
+		}catch (Exception ex) {throw new Exception("File: "+xmlFile.getPath()+"\n      "+ex.getMessage());}
+
+		// Build the interned string table
+		ArrayList<String> strings = new ArrayList<String>();
+		HashMap<String,Integer> stringIndex = new HashMap<String,Integer>();
+		for (XMLDataPacket comp : components)
+			for (Entry<String,String> entry : comp.getMap().entrySet())
+			{
+				intern(entry.getKey(), strings, stringIndex);
+				intern(entry.getValue(), strings, stringIndex);
+			}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(outFile)));
+		try{
+			// Header
+			out.writeInt(BinaryUILayout.MAGIC);
+			out.writeShort(BinaryUILayout.VERSION);
+
+			// String table
+			out.writeInt(strings.size());
+			for (String str : strings)
+				out.writeUTF(str);
+
+			// Components
+			out.writeInt(components.size());
+			for (int cc = 0; cc < components.size(); cc++)
+			{
+				XMLDataPacket comp = components.get(cc);
+				out.writeShort(levels.get(cc));
+				out.writeInt(stringIndex.get(comp.get("type")));
+				out.writeShort(comp.getMap().size());
+				for (Entry<String,String> entry : comp.getMap().entrySet())
+				{
+					out.writeInt(stringIndex.get(entry.getKey()));
+					writeValue(out, entry.getKey(), entry.getValue(), stringIndex);
+				}
+			}
+		} finally {out.close();}
+
+		FWTController.log("BinaryUICompiler: "+xmlFile.getPath()+" -> "+outFile.getPath()+" ("+components.size()+" components)");
+	}
+
+
+	/** Adds the given String to the string table if not already present. */
+	static void intern(String str, ArrayList<String> strings, HashMap<String,Integer> stringIndex)
+	{
+		if (!stringIndex.containsKey(str))
+		{
+			stringIndex.put(str, strings.size());
+			strings.add(str);
+		}
+	}
+
+
+	/** Writes the given value, pre-parsed if it is an int, boolean or color. */
+	static void writeValue(DataOutputStream out, String key, String val, HashMap<String,Integer> stringIndex) throws Exception
+	{
+		// Boolean
+		if (val.equals("true") || val.equals("false"))
+		{
+			out.writeByte(BinaryUILayout.KIND_BOOLEAN);
+			out.writeBoolean(Boolean.parseBoolean(val));
+			return;
+		}
+
+		// Int (only if it reads back identically)
+		try{
+			int intVal = Integer.parseInt(val);
+			if (Integer.toString(intVal).equals(val))
+			{
+				out.writeByte(BinaryUILayout.KIND_INT);
+				out.writeInt(intVal);
+				return;
+			}
+		}catch(NumberFormatException ex) { }
+
+		// Color
+		if (key.endsWith("color"))
+		{
+			XMLDataPacket colorPacket = new XMLDataPacket();
+			colorPacket.put(key, val);
+			Color color = colorPacket.getColor(key);
+			if (color != null)
+			{
+				out.writeByte(BinaryUILayout.KIND_COLOR);
+				out.writeInt(stringIndex.get(val));
+				out.writeFloat(color.r);
+				out.writeFloat(color.g);
+				out.writeFloat(color.b);
+				out.writeFloat(color.a);
+				return;
+			}
+		}
+
+		// String
+		out.writeByte(BinaryUILayout.KIND_STRING);
+		out.writeInt(stringIndex.get(val));
+	}
+
+
+
+
+	// SAX METHODS
+	//***********************************************************************************************
+	//***********************************************************************************************
+	// Mirrors XMLUICreator so compiled layouts build the same component hierarchy.
+
+
+	@Override
+	public void startElement(String namespaceURI, String sName, String qName, Attributes attrs) throws SAXException
+	{
+		// Get Element Name
+		String eName = sName; // element name
+		if ("".equals(eName))
+			eName = qName; // not namespace-aware
+
+		// IF component is properly named
+		if (attrs.getValue("name") != null && attrs.getLength() > 0)
+		{
+			// Apply default values
+			XMLDataPacket dataPacket = (defaults.get(eName) != null) ? defaults.get(eName).clone() : new XMLDataPacket();
+
+			// FOR each attribute
+			for (int i = 0; i < attrs.getLength(); i++)
+			{
+				String aName = attrs.getLocalName(i);
+				if ("".equals(aName))
+					aName = attrs.getQName(i);
+				dataPacket.put(aName,attrs.getValue(i));
+			}
+
+			// Increment component level
+			componentLevel++;
+
+			// Add XML content information
+			dataPacket.put("depth", Integer.toString(componentLevel+1));
+			dataPacket.put("type", eName);
+			dataPacket.put("objectname", dataPacket.get("name"));
+			dataPacket.put("parentfile", parentFile);
+
+			components.add(dataPacket);
+			levels.add(componentLevel);
+		}
+	}
+
+
+	@Override
+	public void endElement(String namespaceURI, String sName, String qName) throws SAXException
+	{
+		if (componentLevel > 0)
+			componentLevel--;
+	}
+
+
+
+
+
+
+
+
+
+
+
+}
@@ -0,0 +1,166 @@
+package com.arboreantears.fwt;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import com.arboreantears.fwt.components.FWTComponent;
+import com.arboreantears.fwt.components.FWTContainer;
+import com.arboreantears.fwt.components.FWTWindow;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+
+
+
+/** Loads FWT windows from compiled binary UI layouts (see {@link BinaryUICompiler}).
+ * <p> A compiled layout holds every component of a UI XML file in document order, with the
+ * default component properties already merged in and simple values (ints, booleans, colors) pre-parsed.
+ * <br> It is only used while it is newer than both its XML file and the default properties file. */
+public class BinaryUILayout
+{
+
+
+
+	// FORMAT
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+	/** File extension of compiled UI layouts (replaces '.xml'). */
+	public static final String EXTENSION = ".fwtb";
+
+	/** File magic: 'FWTB'. */
+	static final int MAGIC = 0x46575442;
+	/** Current format version. */
+	static final short VERSION = 1;
+
+	/** Value kind: plain String (string table index). */
+	static final byte KIND_STRING = 0;
+	/** Value kind: int (canonical decimal String). */
+	static final byte KIND_INT = 1;
+	/** Value kind: boolean ('true'/'false'). */
+	static final byte KIND_BOOLEAN = 2;
+	/** Value kind: color (string table index of the original text, then r, g, b, a floats). */
+	static final byte KIND_COLOR = 3;
+
+
+
+
+	// LOOKUP
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+
+	/** Returns the compiled layout file for the given UI XML file. */
+	public static FileHandle getCompiledFile(FileHandle xmlFile)
+	{
+		return xmlFile.sibling(xmlFile.nameWithoutExtension()+EXTENSION);
+	}
+
+
+	/** Returns 'true' if the given UI XML file has a compiled layout that is not older than
+	 * the XML file or the default component properties file. */
+	public static boolean hasCurrentLayout(FileHandle xmlFile)
+	{
+		FileHandle compiled = getCompiledFile(xmlFile);
+		if (!compiled.exists()) return false;
+		long compiledTime = compiled.lastModified();
+		if (compiledTime < xmlFile.lastModified()) return false;
+
+		// Defaults are merged at compile time, so overridden defaults cannot be used
+		String defaults = FWTController.getDefaultComponentPropertiesFilename()+".xml";
+		if (new FileHandle(FWTController.getOverrideUIFilePath()+"/"+defaults).exists()) return false;
+		FileHandle coreDefaults = new FileHandle(FWTController.getUIFilePath()+"/"+defaults);
+		if (coreDefaults.exists() && compiledTime < coreDefaults.lastModified()) return false;
+
+		return true;
+	}
+
+
+
+
+	// LOAD
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+
+	/** Creates the FWTWindow and all its components from the given compiled layout file. */
+	public static FWTWindow load(FileHandle compiledFile) throws Exception
+	{
+		FWTController.log("BinaryUILayout: UI Creation: "+compiledFile.path());
+
+		ArrayList<FWTComponent> componentStack = new ArrayList<FWTComponent>();
+		FWTComponent root = null;
+
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(compiledFile.file())));
+		try{
+			// Header
+			if (in.readInt() != MAGIC) throw new IOException("Not a compiled UI layout: "+compiledFile.path());
+			short version = in.readShort();
+			if (version != VERSION) throw new IOException("Unsupported compiled UI layout version: "+version);
+
+			// String table
+			int numStrings = in.readInt();
+			String[] strings = new String[numStrings];
+			for (int ss = 0; ss < numStrings; ss++)
+				strings[ss] = in.readUTF().intern();
+
+			// Components (document order)
+			int numComponents = in.readInt();
+			for (int cc = 0; cc < numComponents; cc++)
+			{
+				int level = in.readShort();
+				if (root == null && level != 0) throw new IOException("Compiled UI layout does not start with a root window.");
+				String type = strings[in.readInt()];
+				int numAttrs = in.readShort();
+
+				XMLDataPacket dataPacket = new XMLDataPacket();
+				for (int aa = 0; aa < numAttrs; aa++)
+				{
+					String key = strings[in.readInt()];
+					byte kind = in.readByte();
+					switch (kind)
+					{
+					case KIND_INT:
+						int intVal = in.readInt();
+						dataPacket.putParsed(key, Integer.toString(intVal), intVal); break;
+					case KIND_BOOLEAN:
+						boolean boolVal = in.readBoolean();
+						dataPacket.putParsed(key, Boolean.toString(boolVal), boolVal); break;
+					case KIND_COLOR:
+						String text = strings[in.readInt()];
+						Color color = new Color(in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+						dataPacket.putParsed(key, text, color); break;
+					default:
+						dataPacket.put(key, strings[in.readInt()]); break;
+					}
+				}
+
+				// Create component based on type
+				FWTComponent comp = FWTComponentFactory.create(dataPacket, type);
+
+				// Return to the parent level and add component to its container
+				while (componentStack.size() > level)
+					componentStack.remove(componentStack.size()-1);
+				if (level > 0)
+					((FWTContainer)componentStack.get(level-1)).addComponent(comp);
+				componentStack.add(comp);
+				if (root == null) root = comp;
+			}
+		} finally {in.close();}
+
+		// Return the root window
+		return (FWTWindow) root;
+	}
+
+
+
+
+
+
+
+
+
+
+}
@@ -2,7 +2,12 @@ package com.arboreantears.fwt;
 
 import java.util.ArrayList;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.arboreantears.fwt.events.FWTTask;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -56,7 +61,7 @@ public class FWTController
 
 
 	/** The list of window managers being managed by this controller. */
-	static ArrayList<FWTWindowManager> windowManagers = new ArrayList<FWTWindowManager>();
+	static CopyOnWriteArrayList<FWTWindowManager> windowManagers = new CopyOnWriteArrayList<FWTWindowManager>();
 
 	/** Creates a new window manager. */
 	public static FWTWindowManager createWindowManager()
@@ -74,6 +79,15 @@ public class FWTController
 		return manager;
 	}
 	
+	/** Creates a new window manager with the given name, and whether input events are processed immediately (single-threaded)
+	 * or by an input thread, optionally a virtual thread where supported. */
+	public static FWTWindowManager createWindowManager(String name, boolean singleThreaded, boolean virtualInputThread)
+	{
+		FWTWindowManager manager = new FWTWindowManager(name, singleThreaded, virtualInputThread);
+		windowManagers.add(manager);
+		return manager;
+	}
+	
 	/** Removes the given window manager and its resources. */
 	public static void removeManager(FWTWindowManager manager)
 	{
@@ -87,6 +101,8 @@ public class FWTController
 	public static void refresh()
 	{
 		FWTController.log("FWTController: Refeshing XML Data");
+		// Discard cached XML documents
+		XMLUIReader.clearCache();
 		// For each window manager
 		for (FWTWindowManager mgr : windowManagers)
 			mgr.refresh();
@@ -96,6 +112,24 @@ public class FWTController
 	
 
 
+	//********************************************************************
+	//  PROFILER
+	//********************************************************************
+
+	/** Sets the frame profiler mode of the FWT system. */
+	public static void setProfilerMode(FWTProfiler.Mode mode) {FWTProfiler.setMode(mode);}
+
+	/** Writes the frame profiler's counters and detailed timings to the log. */
+	public static void logProfilerReport()
+	{
+		for (String line : FWTProfiler.getSummary())
+			log("FWTProfiler: "+line);
+		for (String line : FWTProfiler.getDetailedReport())
+			log("FWTProfiler: "+line);
+	}
+
+
+
 	//********************************************************************
 	//  CONTROL INFERFACE
 	//********************************************************************
@@ -136,13 +170,21 @@ public class FWTController
 	//********************************************************************
 
 
-	/** Log events to the console and to a text file. */
+	/** Log events to the console and to a text file. 
+	 * <br> Falls back to the console if no control interface is set (e.g. offline tools). */
 	public static void log(String message)
-		{controlInterface.log(message);}
+		{
+			if (controlInterface != null) controlInterface.log(message);
+			else System.out.println(message);
+		}
 
-	/** Log error events to the console and to a text file. */
+	/** Log error events to the console and to a text file. 
+	 * <br> Falls back to the console if no control interface is set (e.g. offline tools). */
 	public static void error(String message)
-		{controlInterface.error(message);}
+		{
+			if (controlInterface != null) controlInterface.error(message);
+			else System.err.println(message);
+		}
 
 
 
@@ -157,6 +199,61 @@ public class FWTController
 	/** Returns time since last frame render (delta) [seconds]. */
 	public static float getDelta() {return controlInterface.getDelta();}
 
+	/** Returns 'true' if the current thread is the primary graphics thread (OpenGL loop). */
+	public static boolean isOpenGLThread()
+		{return Thread.currentThread().getId() == getOpenGLThreadID();}
+
+	/** Maximum time a thread waits in runOnOpenGLThread for its task to start [milliseconds]. */
+	public static long OPENGL_TASK_TIMEOUT = 10000L;
+
+	/** Processes the given task on the OpenGL thread and waits for it to finish. Runs immediately if already on the OpenGL thread.
+	 * <br> Returns 'false' (and the task is not processed) if no window manager can process it, if it is cancelled
+	 * (its window manager disposed) or if it does not start within OPENGL_TASK_TIMEOUT. */
+	public static boolean runOnOpenGLThread(final FWTTask task) throws InterruptedException
+		{
+			if (isOpenGLThread())
+				{task.process(); return true;}
+
+			// First window manager still processing tasks
+			FWTWindowManager manager = null;
+			for (FWTWindowManager mgr : windowManagers)
+				if (!mgr.getTaskScheduler().isClosed()) {manager = mgr; break;}
+			if (manager == null)
+				{error("FWTController: No window manager to process an OpenGL task."); return false;}
+
+			final CountDownLatch done = new CountDownLatch(1);
+			// Set once by whichever comes first: processing, cancellation or the waiting thread giving up
+			final AtomicBoolean claimed = new AtomicBoolean();
+			final boolean[] processed = new boolean[1];
+			manager.addTask(new FWTTask()
+				{
+					@Override
+					public void process()
+						{
+							if (!claimed.compareAndSet(false, true)) return;
+							try {task.process(); processed[0] = true;}
+							finally {done.countDown();}
+						}
+
+					@Override
+					public void cancel()
+						{
+							if (claimed.compareAndSet(false, true))
+								done.countDown();
+						}
+				}, FWTTask.Priority.HIGH);
+
+			if (!done.await(OPENGL_TASK_TIMEOUT, TimeUnit.MILLISECONDS))
+				{
+					// Already started, wait for it to finish
+					if (!claimed.compareAndSet(false, true))
+						done.await();
+					else
+						{error("FWTController: OpenGL task not processed within "+OPENGL_TASK_TIMEOUT+" ms."); return false;}
+				}
+			return processed[0];
+		}
+
 	/** Returns the current screen width. */
 	public static int getGraphicsWidth() 
 		{return controlInterface.getGraphicsWidth();}
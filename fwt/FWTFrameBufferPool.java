@@ -0,0 +1,324 @@
+package com.arboreantears.fwt;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+
+/** Pooled allocator of UI back buffers.
+ * <p> Buffers are allocated in size buckets and reused once released, so resizing or recreating
+ * components rarely creates a new frame buffer. Optionally, small buffers are sub-allocated from
+ * shared atlas pages: one frame buffer split into equal slots, drawn to with viewport and scissor offsets.
+ * <br> Must only be used from the OpenGL thread. */
+public class FWTFrameBufferPool
+{
+
+
+	// VARIABLES
+	//********************************************************************
+	//********************************************************************
+
+	/** Bucket granularity for buffers up to 512 pixels [pixels]. */
+	public static final int SMALL_STEP = 32;
+	/** Bucket granularity for buffers over 512 pixels [pixels]. */
+	public static final int LARGE_STEP = 128;
+	/** Bytes per pixel (RGBA8888, no depth). */
+	static final int BYTES_PER_PIXEL = 4;
+
+
+	/** 'True' if small buffers are sub-allocated from shared atlas pages. */
+	boolean atlasEnabled = false;
+	/** Returns 'true' if small buffers are sub-allocated from shared atlas pages. */
+	public boolean isAtlasEnabled() {return atlasEnabled;}
+	/** Sets whether small buffers are sub-allocated from shared atlas pages. Only affects new allocations. */
+	public void setAtlasEnabled(boolean enabled) {atlasEnabled = enabled;}
+
+	/** Maximum width and height of a buffer sub-allocated from an atlas page [pixels]. */
+	int atlasMaxSize = 128;
+	/** Returns the maximum width and height of a buffer sub-allocated from an atlas page [pixels]. */
+	public int getAtlasMaxSize() {return atlasMaxSize;}
+	/** Sets the maximum width and height of a buffer sub-allocated from an atlas page [pixels]. */
+	public void setAtlasMaxSize(int size) {atlasMaxSize = size;}
+
+	/** Size of an atlas page [pixels]. */
+	int atlasPageSize = 1024;
+	/** Sets the size of new atlas pages [pixels]. */
+	public void setAtlasPageSize(int size) {atlasPageSize = size;}
+
+	/** Maximum memory kept in released buffers for reuse [bytes]. */
+	long maxFreeBytes = 32L*1024L*1024L;
+	/** Sets the maximum memory kept in released buffers for reuse [bytes]. */
+	public void setMaxFreeBytes(long bytes) {maxFreeBytes = bytes; trimFree();}
+
+
+	/** Released buffers by bucket. */
+	final HashMap<Integer,ArrayList<FrameBuffer>> free = new HashMap<Integer,ArrayList<FrameBuffer>>();
+	/** Atlas pages by slot bucket. */
+	final HashMap<Integer,ArrayList<AtlasPage>> pages = new HashMap<Integer,ArrayList<AtlasPage>>();
+
+
+
+	// Statistics
+	//-----------------------------
+
+	/** Memory of all frame buffers currently allocated [bytes]. */
+	long allocatedBytes;
+	/** Returns the memory of all frame buffers currently allocated, including released and atlas buffers [bytes]. */
+	public long getAllocatedBytes() {return allocatedBytes;}
+
+	/** Memory of the released buffers kept for reuse [bytes]. */
+	long freeBytes;
+	/** Returns the memory of the released buffers kept for reuse [bytes]. */
+	public long getFreeBytes() {return freeBytes;}
+
+	/** Number of frame buffers currently allocated. */
+	int bufferCount;
+	/** Returns the number of frame buffers currently allocated (including atlas pages). */
+	public int getBufferCount() {return bufferCount;}
+
+	/** Total number of buffer requests. */
+	long requests;
+	/** Returns the total number of buffer requests. */
+	public long getRequestCount() {return requests;}
+
+	/** Number of requests served without creating a new frame buffer. */
+	long reused;
+	/** Returns the number of requests served without creating a new frame buffer. */
+	public long getReuseCount() {return reused;}
+
+	/** Returns the fraction of requests served without creating a new frame buffer [0-1]. */
+	public float getHitRate() {return (requests == 0) ? 0f : (float)reused / (float)requests;}
+
+
+	/** Returns a short summary of this pool's statistics. */
+	public String getStats()
+		{
+			int pageCount = 0;
+			for (ArrayList<AtlasPage> list : pages.values())
+				pageCount += list.size();
+			return "FBOs: "+bufferCount+" ("+pageCount+" atlas pages), "+
+					(allocatedBytes/1024)+" KB allocated, "+(freeBytes/1024)+" KB free, "+
+					"reuse "+(int)(getHitRate()*100f)+"% of "+requests;
+		}
+
+
+
+
+	// ALLOCATION
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Returns the bucket size for the given size. */
+	static int bucketSize(int size)
+		{
+			int step = (size <= 512) ? SMALL_STEP : LARGE_STEP;
+			return ((Math.max(size, 1) + step - 1) / step) * step;
+		}
+
+	/** Returns the bucket key for the given bucket sizes. */
+	static int bucketKey(int bwidth, int bheight) {return (bwidth << 16) | bheight;}
+
+
+	/** Returns a buffer region of the given size. */
+	public FWTUIBuffer obtain(int width, int height)
+		{
+			requests++;
+			int bwidth = bucketSize(width);
+			int bheight = bucketSize(height);
+			int key = bucketKey(bwidth, bheight);
+
+			// Small buffers share atlas pages
+			if (atlasEnabled && width <= atlasMaxSize && height <= atlasMaxSize && bwidth <= atlasPageSize && bheight <= atlasPageSize)
+				return obtainSlot(key, bwidth, bheight, width, height);
+
+			// Reuse a released buffer
+			ArrayList<FrameBuffer> list = free.get(key);
+			if (list != null && !list.isEmpty())
+				{
+					reused++;
+					freeBytes -= bytes(bwidth, bheight);
+					return new FWTUIBuffer(list.remove(list.size()-1), 0, 0, width, height);
+				}
+
+			return new FWTUIBuffer(create(bwidth, bheight), 0, 0, width, height);
+		}
+
+
+	/** Resizes the given region if the new size fits its current allocation. Returns 'false' if a new region is needed. */
+	public boolean resize(FWTUIBuffer buffer, int width, int height)
+		{
+			int bwidth = bucketSize(width);
+			int bheight = bucketSize(height);
+			boolean fits = (buffer.page != null) ?
+					(buffer.page.slotWidth == bwidth && buffer.page.slotHeight == bheight) :
+					(buffer.frameBuffer.getWidth() == bwidth && buffer.frameBuffer.getHeight() == bheight);
+			if (!fits) return false;
+			buffer.width = width;
+			buffer.height = height;
+			return true;
+		}
+
+
+	/** Releases the given region for reuse. */
+	public void release(FWTUIBuffer buffer)
+		{
+			if (buffer == null || buffer.frameBuffer == null) return;
+
+			// Atlas slot
+			if (buffer.page != null)
+				{
+					releaseSlot(buffer);
+				}
+			else
+				{
+					FrameBuffer fb = buffer.frameBuffer;
+					int key = bucketKey(fb.getWidth(), fb.getHeight());
+					ArrayList<FrameBuffer> list = free.get(key);
+					if (list == null)
+						{list = new ArrayList<FrameBuffer>(); free.put(key, list);}
+					list.add(fb);
+					freeBytes += bytes(fb.getWidth(), fb.getHeight());
+					trimFree();
+				}
+			buffer.frameBuffer = null;
+			buffer.page = null;
+		}
+
+
+	/** Disposes of released buffers until within the free memory limit. */
+	void trimFree()
+		{
+			if (freeBytes <= maxFreeBytes) return;
+			for (ArrayList<FrameBuffer> list : free.values())
+				while (!list.isEmpty() && freeBytes > maxFreeBytes)
+					{
+						FrameBuffer fb = list.remove(list.size()-1);
+						freeBytes -= bytes(fb.getWidth(), fb.getHeight());
+						destroy(fb);
+					}
+		}
+
+
+	/** Creates a new frame buffer. */
+	FrameBuffer create(int width, int height)
+		{
+			bufferCount++;
+			allocatedBytes += bytes(width, height);
+			return new FrameBuffer(Format.RGBA8888, width, height, false);
+		}
+
+	/** Disposes of the given frame buffer. */
+	void destroy(FrameBuffer fb)
+		{
+			bufferCount--;
+			allocatedBytes -= bytes(fb.getWidth(), fb.getHeight());
+			fb.dispose();
+		}
+
+	/** Returns the memory of a buffer of the given size [bytes]. */
+	static long bytes(int width, int height) {return (long)width * (long)height * BYTES_PER_PIXEL;}
+
+
+	/** Disposes of all frame buffers of this pool. Regions still in use become invalid. */
+	public void dispose()
+		{
+			for (ArrayList<FrameBuffer> list : free.values())
+				for (FrameBuffer fb : list)
+					destroy(fb);
+			free.clear();
+			freeBytes = 0;
+			for (ArrayList<AtlasPage> list : pages.values())
+				for (AtlasPage page : list)
+					destroy(page.frameBuffer);
+			pages.clear();
+		}
+
+
+
+
+	// ATLAS PAGES
+	//********************************************************************
+	//********************************************************************
+
+
+	/** A shared frame buffer split into equal slots. */
+	static final class AtlasPage
+	{
+		final FrameBuffer frameBuffer;
+		final int slotWidth, slotHeight, columns;
+		/** Free slot indices. */
+		final int[] freeSlots;
+		int freeCount;
+
+		AtlasPage(FrameBuffer frameBuffer, int slotWidth, int slotHeight)
+		{
+			this.frameBuffer = frameBuffer;
+			this.slotWidth = slotWidth;
+			this.slotHeight = slotHeight;
+			this.columns = frameBuffer.getWidth() / slotWidth;
+			int slots = columns * (frameBuffer.getHeight() / slotHeight);
+			freeSlots = new int[slots];
+			for (int ss = 0; ss < slots; ss++)
+				freeSlots[ss] = slots - 1 - ss;
+			freeCount = slots;
+		}
+
+		boolean isEmpty() {return freeCount == freeSlots.length;}
+	}
+
+
+	/** Returns a slot of an atlas page for the given bucket. */
+	FWTUIBuffer obtainSlot(int key, int bwidth, int bheight, int width, int height)
+		{
+			ArrayList<AtlasPage> list = pages.get(key);
+			if (list == null)
+				{list = new ArrayList<AtlasPage>(); pages.put(key, list);}
+
+			// Find a page with a free slot
+			AtlasPage page = null;
+			for (int pp = 0; pp < list.size() && page == null; pp++)
+				if (list.get(pp).freeCount > 0)
+					page = list.get(pp);
+			if (page == null)
+				{
+					// Pages fit whole slots only
+					int pwidth = (atlasPageSize / bwidth) * bwidth;
+					int pheight = (atlasPageSize / bheight) * bheight;
+					page = new AtlasPage(create(pwidth, pheight), bwidth, bheight);
+					list.add(page);
+				}
+			else reused++;
+
+			int slot = page.freeSlots[--page.freeCount];
+			FWTUIBuffer buffer = new FWTUIBuffer(page.frameBuffer,
+					(slot % page.columns) * bwidth, (slot / page.columns) * bheight, width, height);
+			buffer.shared = true;
+			buffer.page = page;
+			buffer.slot = slot;
+			return buffer;
+		}
+
+
+	/** Returns the slot of the given region to its atlas page. Empty pages are disposed of, except the last of their bucket. */
+	void releaseSlot(FWTUIBuffer buffer)
+		{
+			AtlasPage page = buffer.page;
+			page.freeSlots[page.freeCount++] = buffer.slot;
+			if (page.isEmpty())
+				{
+					ArrayList<AtlasPage> list = pages.get(bucketKey(page.slotWidth, page.slotHeight));
+					if (list != null && list.size() > 1)
+						{
+							list.remove(page);
+							destroy(page.frameBuffer);
+						}
+				}
+		}
+
+
+
+
+}
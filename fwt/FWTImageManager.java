@@ -1,9 +1,13 @@
 package com.arboreantears.fwt;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.badlogic.gdx.graphics.g2d.NinePatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 
 
 /** Loads and manages images for the graphics system and handles graphical textures. */
@@ -35,62 +39,145 @@ public class FWTImageManager
 
 
 
-	// CACHED NINEPATCHES
+	// REGION INDEX
 	//============================================
 
-	/** Map of cached nine-patches. */
-	static HashMap<Long,NinePatch> cachedNinePatches = new HashMap<Long, NinePatch>();
+	/** Atlas regions by name (the first region of each name, as found by TextureAtlas.findRegion). Rebuilt when textures are loaded. */
+	private static volatile HashMap<String,AtlasRegion> regionIndex = new HashMap<String,AtlasRegion>();
 
-	/** Returns a nine-patch with the given component ID, texture name, width, and height. */
-	public static NinePatch getNinePatch(long id, String textureID, int width, int height)
+	/** The plain "fill" region used to draw rectangles (null if not loaded). */
+	private static volatile AtlasRegion fillRegion;
+	/** Returns the plain "fill" region used to draw rectangles (null if not loaded). */
+	public static AtlasRegion getFillRegion() {return fillRegion;}
+
+	/** Shared image handles by image name. */
+	private static final ConcurrentHashMap<String,FWTUIImage> uiImages = new ConcurrentHashMap<String,FWTUIImage>();
+
+
+	/** Returns the UI atlas region with the given name (null if not found). */
+	public static AtlasRegion findRegion(String name)
 	{
-		NinePatch ninePatch = cachedNinePatches.get(id);
+		return regionIndex.get(name);
+	}
 
-		// IF does not exist OR not correct size, recreate patch
-		if (ninePatch == null || ninePatch.getTotalWidth() != width || ninePatch.getTotalHeight() != height)
+
+	/** Returns the shared handle of the given UI image name (with a '.9' suffix for nine-patches). Can be called from any thread.
+	 * <br> Resolve handles once (e.g. when reading component data) and draw with them, to avoid any name lookup while drawing. */
+	public static FWTUIImage getUIImage(String imageName)
+	{
+		if (imageName == null || imageName.isEmpty())
+			return FWTUIImage.NONE;
+		FWTUIImage image = uiImages.get(imageName);
+		if (image == null)
 			{
-				ninePatch = uiAtlas.createPatch(textureID);
-				cachedNinePatches.put(id, ninePatch);
+				image = new FWTUIImage(imageName);
+				image.resolve();
+				FWTUIImage prev = uiImages.putIfAbsent(imageName, image);
+				if (prev != null) image = prev;
 			}
-		// ELSE return cached patch
-		return ninePatch;
-
+		return image;
 	}
-	/** Removes a nine-patch associated with the given component ID. */
-	public static void removeNinePatch(long id)
+
+
+	/** Rebuilds the region index from the current UI atlas and re-resolves all image handles. */
+	static void indexRegions()
 	{
-		cachedNinePatches.remove(id);
+		HashMap<String,AtlasRegion> index = new HashMap<String,AtlasRegion>();
+		if (uiAtlas != null)
+			for (AtlasRegion region : uiAtlas.getRegions())
+				if (!index.containsKey(region.name))
+					index.put(region.name, region);
+		regionIndex = index;
+		fillRegion = index.get("fill");
+
+		for (FWTUIImage image : uiImages.values())
+			image.resolve();
 	}
 
 
 
 
-
-	// CACHED BORDER NINEPATCHES
+	// CACHED NINEPATCHES
 	//============================================
 
-	/** Map of cached border nine-patches. */
-	static HashMap<Long,NinePatch> cachedBorderNinePatches = new HashMap<Long, NinePatch>();
-
-	/** Returns a nine-patch with the given component ID, texture name, width, and height. */
-	public static NinePatch getBorderNinePatch(long id, String textureID, int width, int height)
+	/** Maximum number of cached nine-patches. The least recently used are evicted first. */
+	public static int MAX_CACHED_NINEPATCHES = 128;
+
+	/** Map of cached nine-patches by texture name (in access order). Nine-patches draw at any size, so one is shared by all components. */
+	static final LinkedHashMap<String,NinePatch> cachedNinePatches = new LinkedHashMap<String,NinePatch>(32, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String,NinePatch> eldest)
+				{return size() > MAX_CACHED_NINEPATCHES;}
+		};
+
+	/** Nine-patch cache statistics. */
+	static long ninePatchHits, ninePatchMisses;
+	/** Returns the number of nine-patch requests served from the cache. */
+	public static long getNinePatchHits() {return ninePatchHits;}
+	/** Returns the number of nine-patch requests that created a new nine-patch. */
+	public static long getNinePatchMisses() {return ninePatchMisses;}
+	/** Returns the number of cached nine-patches. */
+	public static int getNinePatchCount() {return cachedNinePatches.size();}
+
+
+	/** Returns the shared nine-patch of the given texture name (null if not found). */
+	public static NinePatch getNinePatch(String textureID)
 	{
-		NinePatch ninePatch = cachedBorderNinePatches.get(id);
+		NinePatch ninePatch = cachedNinePatches.get(textureID);
 
-		// IF does not exist OR not correct size, recreate patch
-		if (ninePatch == null || ninePatch.getTotalWidth() != width || ninePatch.getTotalHeight() != height)
+		// IF does not exist, create patch
+		if (ninePatch == null)
 			{
-				ninePatch = uiAtlas.createPatch(textureID);
-				cachedBorderNinePatches.put(id, ninePatch);
+				ninePatchMisses++;
+				AtlasRegion region = findRegion(textureID);
+				int[] splits = (region == null) ? null : region.findValue("splits");
+				if (splits != null)
+					{
+						ninePatch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
+						int[] pads = region.findValue("pads");
+						if (pads != null) ninePatch.setPadding(pads[0], pads[1], pads[2], pads[3]);
+						cachedNinePatches.put(textureID, ninePatch);
+					}
 			}
 		// ELSE return cached patch
+		else ninePatchHits++;
 		return ninePatch;
 
 	}
-	/** Removes a nine-patch associated with the given component ID. */
-	public static void removeBorderNinePatch(long id)
+
+	/** Returns the shared nine-patch of the given texture name. The component ID and size are ignored.
+	 * @deprecated nine-patches are shared by texture, use {@link #getNinePatch(String)}. */
+	@Deprecated
+	public static NinePatch getNinePatch(long id, String textureID, int width, int height)
+	{
+		return getNinePatch(textureID);
+	}
+
+	/** Returns the shared nine-patch of the given texture name. The component ID and size are ignored.
+	 * @deprecated nine-patches are shared by texture, use {@link #getNinePatch(String)}. */
+	@Deprecated
+	public static NinePatch getBorderNinePatch(long id, String textureID, int width, int height)
+	{
+		return getNinePatch(textureID);
+	}
+
+	/** Does nothing: nine-patches are no longer held per component.
+	 * @deprecated nine-patches are shared by texture and evicted automatically. */
+	@Deprecated
+	public static void removeNinePatch(long id) {}
+
+	/** Does nothing: nine-patches are no longer held per component.
+	 * @deprecated nine-patches are shared by texture and evicted automatically. */
+	@Deprecated
+	public static void removeBorderNinePatch(long id) {}
+
+
+	/** Clears all cached nine-patches (they reference the current atlas textures). */
+	public static void clearNinePatches()
 	{
-		cachedBorderNinePatches.remove(id);
+		cachedNinePatches.clear();
 	}
 
 
@@ -136,9 +223,11 @@ public class FWTImageManager
 		// Remove any previous bindings
 		if (uiAtlas != null)
 			{uiAtlas.dispose(); uiAtlas = null;}
+		clearNinePatches();
 
 		// UI Texture Atlas
 		uiAtlas = FWTController.getUITextureAtlas();
+		indexRegions();
 
 		FWTController.log("FWTImageManager: UI textures initialized.");
 	}
@@ -152,7 +241,8 @@ public class FWTImageManager
 		if (uiAtlas != null)
 			{uiAtlas.dispose(); uiAtlas = null;}
 		
-		cachedNinePatches.clear();
+		clearNinePatches();
+		indexRegions();
 	}
 
 
@@ -0,0 +1,325 @@
+package com.arboreantears.fwt;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.Gdx;
+
+
+/** Frame profiler of the FWT rendering loop.
+ * <p> In COUNTERS mode (the default) every frame records a few counters (frame time, redraws, buffer resizes and binds,
+ * blits, draw calls, input events) into a ring buffer of the last {@link #HISTORY} frames, at the cost of an increment each.
+ * <br> In DETAILED mode one frame in {@link #getSampleInterval()} is also timed per window and per component type
+ * (update, redraw and blit). Times are inclusive: a container's redraw includes the rendering of its components.
+ * <br> A profiled frame is one application frame: the renders of all window managers in it are added together, and the
+ * frame is recorded when the next one begins. FRAME_NANOS is the total render time of the managers.
+ * <br> Counters and timings are recorded on the OpenGL thread, except input events (any thread). */
+public class FWTProfiler
+{
+
+
+	// VARIABLES
+	//********************************************************************
+	//********************************************************************
+
+	/** Profiling modes. */
+	public static enum Mode {OFF, COUNTERS, DETAILED}
+
+	/** Per-frame counters. */
+	public static enum Counter {FRAME_NANOS, REDRAWS, DIRECT_DRAWS, RESIZES, BINDS, BLITS, DRAW_CALLS, INPUT_EVENTS}
+
+	/** Timed phases of a component's rendering. */
+	public static enum Phase {UPDATE, REDRAW, BLIT}
+
+	/** Number of frames kept in the counter history. */
+	public static final int HISTORY = 120;
+
+
+	/** Current profiling mode. */
+	static volatile Mode mode = Mode.COUNTERS;
+	/** Returns the current profiling mode. */
+	public static Mode getMode() {return mode;}
+	/** Sets the profiling mode. Detailed timings are reset. */
+	public static void setMode(Mode m) {mode = (m == null) ? Mode.OFF : m; resetTimings(); discardFrame();}
+	/** Returns 'true' if counters are being recorded. */
+	public static boolean isEnabled() {return mode != Mode.OFF;}
+
+	/** Frames between detailed samples. */
+	static int sampleInterval = 30;
+	/** Returns the number of frames between detailed samples. */
+	public static int getSampleInterval() {return sampleInterval;}
+	/** Sets the number of frames between detailed samples (1 samples every frame). */
+	public static void setSampleInterval(int frames) {sampleInterval = Math.max(frames, 1);}
+
+
+	/** Counters of the current frame. */
+	static final long[] current = new long[Counter.values().length];
+	/** Input events since the last frame (counted from any thread). */
+	static final AtomicInteger inputEvents = new AtomicInteger();
+	/** Counter history ring buffer [frame][counter]. */
+	static final long[][] history = new long[HISTORY][Counter.values().length];
+	/** Next history slot. */
+	static int historyIndex;
+	/** Number of frames recorded in the history (up to HISTORY). */
+	static int historySize;
+	/** Total frames recorded. */
+	static long frames;
+	/** Returns the total number of frames recorded. */
+	public static long getFrameCount() {return frames;}
+
+	/** Application frame ID of the frame being recorded, or -1 if none. */
+	static long frameId = -1;
+	/** Start time of the current window manager render [ns]. */
+	static long frameStart;
+	/** 'True' if the frame being recorded is timed in detail. */
+	static boolean sampledFrame;
+	/** 'True' while a window manager renders a frame timed in detail. */
+	static boolean sampling;
+	/** Returns 'true' if the current frame is timed in detail. */
+	public static boolean isSampling() {return sampling;}
+
+	/** Detailed times per component type [ns per phase]. */
+	static final HashMap<String,long[]> typeTimes = new HashMap<String,long[]>();
+	/** Detailed times per window [ns]. */
+	static final HashMap<String,long[]> windowTimes = new HashMap<String,long[]>();
+	/** Number of detailed frames sampled. */
+	static int samples;
+
+
+
+
+	// FRAME
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Starts recording a window manager's render. Called by the window manager's render.
+	 * <br> The first render of a new application frame records the previous frame. */
+	public static void beginFrame()
+		{
+			if (mode == Mode.OFF) {sampling = false; return;}
+			long id = Gdx.graphics.getFrameId();
+			if (frameId != id)
+				{
+					if (frameId >= 0) recordFrame();
+					frameId = id;
+					sampledFrame = mode == Mode.DETAILED && frames % sampleInterval == 0;
+					if (sampledFrame) samples++;
+				}
+			sampling = sampledFrame;
+			frameStart = System.nanoTime();
+		}
+
+
+	/** Ends recording a window manager's render with the given number of draw calls. Called by the window manager's render. */
+	public static void endFrame(int drawCalls)
+		{
+			sampling = false;
+			if (mode == Mode.OFF || frameId < 0) return;
+			current[Counter.FRAME_NANOS.ordinal()] += System.nanoTime() - frameStart;
+			current[Counter.DRAW_CALLS.ordinal()] += drawCalls;
+		}
+
+
+	/** Records the counters of the current application frame into the history. */
+	static void recordFrame()
+		{
+			current[Counter.INPUT_EVENTS.ordinal()] = inputEvents.getAndSet(0);
+
+			System.arraycopy(current, 0, history[historyIndex], 0, current.length);
+			historyIndex = (historyIndex + 1) % HISTORY;
+			if (historySize < HISTORY) historySize++;
+			frames++;
+			for (int cc = 0; cc < current.length; cc++)
+				current[cc] = 0;
+		}
+
+
+	/** Drops the application frame being recorded (the profiling mode changed). */
+	static void discardFrame()
+		{
+			frameId = -1;
+			sampledFrame = false;
+			for (int cc = 0; cc < current.length; cc++)
+				current[cc] = 0;
+		}
+
+
+
+
+	// COUNTERS
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Counts one occurrence of the given counter in the current frame. Must be called from the OpenGL thread. */
+	public static void count(Counter counter)
+		{
+			if (mode != Mode.OFF)
+				current[counter.ordinal()]++;
+		}
+
+	/** Counts one processed input event. Can be called from any thread. */
+	public static void countInputEvent()
+		{
+			if (mode != Mode.OFF)
+				inputEvents.incrementAndGet();
+		}
+
+
+	/** Returns the given counter of the last recorded frame. */
+	public static long getLast(Counter counter)
+		{
+			if (historySize == 0) return 0;
+			return history[(historyIndex + HISTORY - 1) % HISTORY][counter.ordinal()];
+		}
+
+	/** Returns the average of the given counter over the recorded history. */
+	public static double getAverage(Counter counter)
+		{
+			if (historySize == 0) return 0;
+			long sum = 0;
+			for (int ff = 0; ff < historySize; ff++)
+				sum += history[ff][counter.ordinal()];
+			return (double)sum / historySize;
+		}
+
+	/** Returns the maximum of the given counter over the recorded history. */
+	public static long getMax(Counter counter)
+		{
+			long max = 0;
+			for (int ff = 0; ff < historySize; ff++)
+				max = Math.max(max, history[ff][counter.ordinal()]);
+			return max;
+		}
+
+	/** Clears the counter history. */
+	public static void resetCounters()
+		{
+			historyIndex = 0;
+			historySize = 0;
+			for (int cc = 0; cc < current.length; cc++)
+				current[cc] = 0;
+			inputEvents.set(0);
+		}
+
+
+
+
+	// DETAILED TIMINGS
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Returns the start time of a timed section, or 0 if the current frame is not sampled. */
+	public static long start()
+		{
+			return sampling ? System.nanoTime() : 0L;
+		}
+
+
+	/** Records the time of a component phase started at the given time (ignored if 0). */
+	public static void record(Phase phase, Object component, long start)
+		{
+			if (start == 0L) return;
+			long elapsed = System.nanoTime() - start;
+			String type = component.getClass().getSimpleName();
+			long[] times = typeTimes.get(type);
+			if (times == null)
+				{times = new long[Phase.values().length]; typeTimes.put(type, times);}
+			times[phase.ordinal()] += elapsed;
+		}
+
+
+	/** Records the update and render time of a window started at the given time (ignored if 0). */
+	public static void recordWindow(String name, long start)
+		{
+			if (start == 0L) return;
+			long elapsed = System.nanoTime() - start;
+			long[] times = windowTimes.get(name);
+			if (times == null)
+				{times = new long[1]; windowTimes.put(name, times);}
+			times[0] += elapsed;
+		}
+
+
+	/** Clears the detailed timings. */
+	public static void resetTimings()
+		{
+			typeTimes.clear();
+			windowTimes.clear();
+			samples = 0;
+		}
+
+
+	/** Returns the average time per sampled frame of the given component type and phase [ms]. */
+	public static double getTypeTime(String type, Phase phase)
+		{
+			long[] times = typeTimes.get(type);
+			if (times == null || samples == 0) return 0;
+			return times[phase.ordinal()] / 1e6 / samples;
+		}
+
+	/** Returns the average time per sampled frame of the given window [ms]. */
+	public static double getWindowTime(String name)
+		{
+			long[] times = windowTimes.get(name);
+			if (times == null || samples == 0) return 0;
+			return times[0] / 1e6 / samples;
+		}
+
+
+
+
+	// REPORTS
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Returns a summary of the counters (averages over the history), one entry per line. */
+	public static ArrayList<String> getSummary()
+		{
+			ArrayList<String> lines = new ArrayList<String>();
+			lines.add(String.format("Frame: %.2f ms (max %.2f)", getAverage(Counter.FRAME_NANOS)/1e6, getMax(Counter.FRAME_NANOS)/1e6));
+			lines.add(String.format("Draw calls: %.1f  Blits: %.1f", getAverage(Counter.DRAW_CALLS), getAverage(Counter.BLITS)));
+			lines.add(String.format("Redraws: %.1f  Direct: %.1f", getAverage(Counter.REDRAWS), getAverage(Counter.DIRECT_DRAWS)));
+			lines.add(String.format("FBO binds: %.1f  Resizes: %.1f", getAverage(Counter.BINDS), getAverage(Counter.RESIZES)));
+			lines.add(String.format("Input events: %.1f", getAverage(Counter.INPUT_EVENTS)));
+			FWTFrameBufferPool pool = FWTUIFrameBufferController.getPool();
+			if (pool != null)
+				lines.add(pool.getStats());
+			return lines;
+		}
+
+
+	/** Returns the detailed timings (average per sampled frame), slowest first, one entry per line. */
+	public static ArrayList<String> getDetailedReport()
+		{
+			ArrayList<String> lines = new ArrayList<String>();
+			if (samples == 0) return lines;
+
+			ArrayList<Map.Entry<String,long[]>> windows = new ArrayList<Map.Entry<String,long[]>>(windowTimes.entrySet());
+			windows.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+			for (Map.Entry<String,long[]> entry : windows)
+				lines.add(String.format("Window %s: %.3f ms", entry.getKey(), getWindowTime(entry.getKey())));
+
+			ArrayList<Map.Entry<String,long[]>> types = new ArrayList<Map.Entry<String,long[]>>(typeTimes.entrySet());
+			types.sort((a, b) -> Long.compare(total(b.getValue()), total(a.getValue())));
+			for (Map.Entry<String,long[]> entry : types)
+				lines.add(String.format("%s: update %.3f, redraw %.3f, blit %.3f ms", entry.getKey(),
+						getTypeTime(entry.getKey(), Phase.UPDATE), getTypeTime(entry.getKey(), Phase.REDRAW), getTypeTime(entry.getKey(), Phase.BLIT)));
+			return lines;
+		}
+
+	/** Returns the sum of the given times. */
+	private static long total(long[] times)
+		{
+			long sum = 0;
+			for (long t : times) sum += t;
+			return sum;
+		}
+
+
+}
@@ -0,0 +1,256 @@
+package com.arboreantears.fwt;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.arboreantears.fwt.events.FWTTask;
+import com.arboreantears.fwt.events.FWTTask.Priority;
+
+
+/** Schedules FWTTasks to be processed on the OpenGL thread within a per-frame time budget.
+ * <p> Tasks can be submitted from any thread through a lock-free multi-producer, single-consumer queue.
+ * Each frame, the OpenGL thread processes them highest priority first (in submission order within a priority)
+ * until the time budget is used. Remaining tasks are deferred to the next frame. */
+public class FWTTaskScheduler
+{
+
+
+
+	// VARIABLES
+	//********************************************************************
+	//********************************************************************
+
+	/** Default time budget per frame [nanoseconds]. */
+	public static final long DEFAULT_BUDGET = 4000000L;
+
+	/** Maximum time spent processing tasks per frame [nanoseconds]. */
+	volatile long budget = DEFAULT_BUDGET;
+	/** Returns the maximum time spent processing tasks per frame [nanoseconds]. */
+	public long getBudget() {return budget;}
+	/** Sets the maximum time spent processing tasks per frame [nanoseconds]. At least one task is processed each frame. */
+	public void setBudget(long nanos) {budget = nanos;}
+
+
+	/** Tasks taken from the submission queue, waiting by priority. Only used by the OpenGL thread. */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	final ArrayDeque<FWTTask>[] waiting = new ArrayDeque[Priority.values().length];
+
+	/** 'True' once closed: submitted tasks are cancelled instead of queued. */
+	volatile boolean closed;
+	/** Returns 'true' if this scheduler was closed. */
+	public boolean isClosed() {return closed;}
+
+
+
+	// Counters
+	//-----------------------------
+
+	/** Number of tasks submitted but not yet processed. */
+	final AtomicInteger queueDepth = new AtomicInteger();
+	/** Returns the number of tasks submitted but not yet processed. */
+	public int getQueueDepth() {return queueDepth.get();}
+
+	/** Number of tasks left for a later frame at the end of the last processing pass. */
+	int lastDeferred;
+	/** Returns the number of tasks left for a later frame at the end of the last processing pass. */
+	public int getLastDeferredCount() {return lastDeferred;}
+
+	/** Total number of times a task was left for a later frame (a task deferred over several frames counts each frame). */
+	long totalDeferred;
+	/** Returns the total number of times a task was left for a later frame. */
+	public long getTotalDeferredCount() {return totalDeferred;}
+
+	/** Total number of tasks processed. */
+	long totalProcessed;
+	/** Returns the total number of tasks processed. */
+	public long getTotalProcessedCount() {return totalProcessed;}
+
+	/** Number of tasks processed in the last processing pass. */
+	int lastProcessed;
+	/** Returns the number of tasks processed in the last processing pass. */
+	public int getLastProcessedCount() {return lastProcessed;}
+
+	/** Time spent in the last processing pass [nanoseconds]. */
+	long lastTime;
+	/** Returns the time spent in the last processing pass [nanoseconds]. */
+	public long getLastProcessingTime() {return lastTime;}
+
+
+
+
+	// CONSTRUCTOR
+	//********************************************************************
+	//********************************************************************
+
+	/** Creates a new empty task scheduler. */
+	public FWTTaskScheduler()
+	{
+		for (int pp = 0; pp < waiting.length; pp++)
+			waiting[pp] = new ArrayDeque<FWTTask>();
+		Node stub = new Node(null, null);
+		head.set(stub);
+		tail = stub;
+	}
+
+
+
+
+	// SUBMISSION QUEUE
+	//********************************************************************
+	//********************************************************************
+	// Intrusive MPSC linked queue: producers swap themselves in as the head,
+	// the single consumer follows 'next' links from the tail.
+
+	/** A submitted task. */
+	static final class Node
+	{
+		final FWTTask task;
+		final Priority priority;
+		volatile Node next;
+
+		Node(FWTTask task, Priority priority)
+		{
+			this.task = task;
+			this.priority = priority;
+		}
+	}
+
+	/** Most recently submitted node (producers). */
+	final AtomicReference<Node> head = new AtomicReference<Node>();
+	/** Last consumed node (consumer only). */
+	Node tail;
+
+
+	/** Submits the given task with normal priority. Can be called from any thread. */
+	public void submit(FWTTask task)
+	{
+		submit(task, Priority.NORMAL);
+	}
+
+	/** Submits the given task with the given priority. Can be called from any thread. Cancels it if this scheduler is closed. */
+	public void submit(FWTTask task, Priority priority)
+	{
+		if (task == null) return;
+		if (priority == null) priority = Priority.NORMAL;
+		// Counted before checking 'closed': close() waits for counted tasks to be linked, then cancels them
+		queueDepth.incrementAndGet();
+		if (closed) {queueDepth.decrementAndGet(); cancel(task); return;}
+		Node node = new Node(task, priority);
+		Node prev = head.getAndSet(node);
+		prev.next = node;
+	}
+
+
+	/** Moves all submitted tasks to the priority lists. Consumer only. */
+	void drainSubmitted()
+	{
+		Node next;
+		while ((next = tail.next) != null)
+		{
+			waiting[next.priority.ordinal()].add(next.task);
+			tail = next;
+		}
+	}
+
+
+	/** Returns the next waiting task by priority, or null if none. Consumer only. */
+	FWTTask nextTask()
+	{
+		for (int pp = 0; pp < waiting.length; pp++)
+			if (!waiting[pp].isEmpty())
+				return waiting[pp].poll();
+		return null;
+	}
+
+
+
+
+	// PROCESSING
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Processes waiting tasks until the time budget is used. Must be called from the OpenGL thread. */
+	public void process()
+	{
+		long start = System.nanoTime();
+		int processed = 0;
+
+		drainSubmitted();
+		FWTTask task;
+		while ((task = nextTask()) != null)
+		{
+			queueDepth.decrementAndGet();
+			try {
+				task.process();
+			} catch (RuntimeException ex) {
+				FWTController.error("FWTTaskScheduler: Error processing FWTTask.");
+				FWTController.error(ex.getMessage());
+				if (FWTWindowManager.DEBUG_MODE) ex.printStackTrace();
+			}
+			processed++;
+
+			// IF out of time, continue next frame
+			if (System.nanoTime() - start >= budget)
+				break;
+			// Pick up tasks submitted by the processed ones
+			drainSubmitted();
+		}
+
+		lastTime = System.nanoTime() - start;
+		lastProcessed = processed;
+		totalProcessed += processed;
+		lastDeferred = queueDepth.get();
+		totalDeferred += lastDeferred;
+	}
+
+
+	/** Cancels all waiting tasks without processing them (see {@link FWTTask#cancel()}). Must be called from the OpenGL thread. */
+	public void clear()
+	{
+		drainSubmitted();
+		FWTTask task;
+		while ((task = nextTask()) != null)
+		{
+			queueDepth.decrementAndGet();
+			cancel(task);
+		}
+	}
+
+
+	/** Closes this scheduler: waiting and later submitted tasks are cancelled. Must be called from the OpenGL thread.
+	 * <br> Also waits for tasks being submitted concurrently, so none is left in the queue. */
+	public void close()
+	{
+		closed = true;
+		clear();
+		while (queueDepth.get() > 0)
+		{
+			Thread.yield();
+			clear();
+		}
+	}
+
+
+	/** Cancels the given task, reporting errors. */
+	static void cancel(FWTTask task)
+	{
+		try {
+			task.cancel();
+		} catch (RuntimeException ex) {
+			FWTController.error("FWTTaskScheduler: Error cancelling FWTTask.");
+			FWTController.error(ex.getMessage());
+		}
+	}
+
+
+
+
+
+
+
+
+
+
+}
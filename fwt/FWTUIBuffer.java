@@ -0,0 +1,125 @@
+package com.arboreantears.fwt;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+
+
+/** A UI component's back buffer: a region of a (possibly larger or shared) frame buffer.
+ * <p> Regions are allocated by the {@link FWTFrameBufferPool}. Drawing to the region is done through
+ * {@link FWTUIFrameBufferController#pushDrawingContext(FWTUIBuffer, com.badlogic.gdx.math.Rectangle)},
+ * which limits rendering to the region. */
+public class FWTUIBuffer
+{
+
+	/** The frame buffer holding this region. */
+	FrameBuffer frameBuffer;
+	/** Returns the frame buffer holding this region. */
+	public FrameBuffer getFrameBuffer() {return frameBuffer;}
+	/** Returns the texture holding this region. */
+	public Texture getTexture() {return frameBuffer.getColorBufferTexture();}
+
+	/** Position of this region in the frame buffer. */
+	int x, y;
+	/** Returns the X position of this region in the frame buffer. */
+	public int getX() {return x;}
+	/** Returns the Y position of this region in the frame buffer. */
+	public int getY() {return y;}
+
+	/** Size of this region. */
+	int width, height;
+	/** Returns the width of this region. */
+	public int getWidth() {return width;}
+	/** Returns the height of this region. */
+	public int getHeight() {return height;}
+
+	/** 'True' if other regions share the frame buffer. Drawing must then always be clipped to this region. */
+	boolean shared;
+	/** Returns 'true' if other regions share the frame buffer. */
+	public boolean isShared() {return shared;}
+
+	/** Drawing coordinates shown at the bottom-left corner of this region (0|0 unless it holds a scrolled view of a larger area). */
+	int originX, originY;
+	/** Returns the drawing X coordinate shown at the left edge of this region. */
+	public int getOriginX() {return originX;}
+	/** Returns the drawing Y coordinate shown at the bottom edge of this region. */
+	public int getOriginY() {return originY;}
+	/** Sets the drawing coordinates shown at the bottom-left corner of this region. Clipping regions use the same coordinates. */
+	public void setOrigin(int x, int y) {originX = x; originY = y;}
+
+	/** Projection matrix for drawing to this region (null until first used). */
+	private Matrix4 projection;
+	/** Region size and origin of the projection matrix. */
+	private int projectionWidth, projectionHeight, projectionX, projectionY;
+
+	/** Returns the projection matrix for drawing to this region, only recomputed when the region is resized or moved. */
+	public Matrix4 getProjection()
+		{
+			if (projection == null) projection = new Matrix4();
+			if (projectionWidth != width || projectionHeight != height || projectionX != originX || projectionY != originY)
+				{
+					projection.setToOrtho2D(originX,originY,width,height);
+					projectionWidth = width;
+					projectionHeight = height;
+					projectionX = originX;
+					projectionY = originY;
+				}
+			return projection;
+		}
+
+	/** The atlas page this region was allocated from (null if not shared). */
+	FWTFrameBufferPool.AtlasPage page;
+	/** Slot index of this region in its atlas page. */
+	int slot;
+
+
+	/** Creates a region covering the whole of the given frame buffer. */
+	public FWTUIBuffer(FrameBuffer frameBuffer)
+		{
+			this.frameBuffer = frameBuffer;
+			this.width = frameBuffer.getWidth();
+			this.height = frameBuffer.getHeight();
+		}
+
+	/** Sets this region to cover the whole of the given frame buffer. */
+	void wrap(FrameBuffer frameBuffer)
+		{
+			this.frameBuffer = frameBuffer;
+			x = 0;
+			y = 0;
+			width = frameBuffer.getWidth();
+			height = frameBuffer.getHeight();
+			originX = 0;
+			originY = 0;
+		}
+
+	/** Creates a region of the given frame buffer. */
+	FWTUIBuffer(FrameBuffer frameBuffer, int x, int y, int width, int height)
+		{
+			this.frameBuffer = frameBuffer;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+		}
+
+
+
+	/** Draws this whole region at the given screen dimensions (the batch must be drawing). */
+	public void draw(SpriteBatch spriteBatch, float dx, float dy, float dwidth, float dheight)
+		{
+			draw(spriteBatch, dx, dy, dwidth, dheight, 0, 0, width, height);
+		}
+
+	/** Draws the given part of this region (in region coordinates, from the bottom-left) at the given screen dimensions (the batch must be drawing). */
+	public void draw(SpriteBatch spriteBatch, float dx, float dy, float dwidth, float dheight, int srcX, int srcY, int srcWidth, int srcHeight)
+		{
+			spriteBatch.draw(frameBuffer.getColorBufferTexture(),
+					dx,dy,dwidth,dheight,
+					x+srcX,y+srcY,srcWidth,srcHeight,
+					false, true);
+		}
+
+
+}
@@ -1,13 +1,18 @@
 package com.arboreantears.fwt;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Stack;
 
 import com.arboreantears.fwt.components.FWTComponent;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 
 
 /** A Buffer Controller to handle UI frame-buffer management. */
@@ -22,8 +27,11 @@ public class FWTUIFrameBufferController
 		{
 			dispose();
 
-			uiDrawingStack = new Stack<FrameBuffer>();
+			uiDrawingStack = new Stack<FWTUIBuffer>();
+			uiClipStack = new Stack<Rectangle>();
+			uiBufferRegions = new HashMap<Long,FWTUIBuffer>();
 			uiBuffers = new HashMap<Long,FrameBuffer>();
+			pool = new FWTFrameBufferPool();
 		}
 
 
@@ -33,24 +41,45 @@ public class FWTUIFrameBufferController
 		{
 			if (uiDrawingStack != null)
 				{
-					while (!uiDrawingStack.isEmpty())
-						uiDrawingStack.pop().dispose();
+					if (!uiDrawingStack.isEmpty())
+						FrameBuffer.unbind();
 					uiDrawingStack = null;
 				}
+			uiClipStack = null;
 
-			if (uiBuffers != null)
+			// Return every region to the pool, so that its frame buffers are all disposed
+			if (uiBufferRegions != null)
 				{
-					for (FrameBuffer fb : uiBuffers.values())
-						fb.dispose();
-					uiBuffers.clear();
+					if (pool != null)
+						for (FWTUIBuffer fb : uiBufferRegions.values())
+							pool.release(fb);
+					uiBufferRegions.clear();
 				}
-			
+			if (uiBuffers != null)
+				uiBuffers.clear();
+
+			if (pool != null)
+				pool.dispose();
+			wrappedBuffers.clear();
+
 			currentFrameBuffer = null;
+			currentProjection = null;
+			batchProjectionValid = false;
+			shapeProjectionValid = false;
 		}
 
 
 
 
+	/** Allocator of the UI frame buffers. */
+	private static FWTFrameBufferPool pool;
+
+	/** Returns the allocator of the UI frame buffers (for settings and statistics). */
+	public static FWTFrameBufferPool getPool() {return pool;}
+
+
+
+
 
 
 
@@ -62,33 +91,63 @@ public class FWTUIFrameBufferController
 	//============================================
 
 
-	/** The current stack of drawing contexts (frame buffers). */
-	private static Stack<FrameBuffer> uiDrawingStack;
+	/** The current stack of drawing contexts (frame buffer regions). */
+	private static Stack<FWTUIBuffer> uiDrawingStack;
+
+	/** The clipping region of each drawing context on the stack (null if unclipped). */
+	private static Stack<Rectangle> uiClipStack;
 
+	/** Projection matrix of the screen. */
+	private static final Matrix4 screenProjection = new Matrix4();
+	/** Screen size of the screen projection. */
+	private static int screenWidth = -1, screenHeight = -1;
+	/** Projection matrix of the current drawing context (null if not set yet). */
+	private static Matrix4 currentProjection;
+	/** Projection last applied to the sprite-batch. */
+	private static final Matrix4 batchProjection = new Matrix4();
+	/** 'True' if the sprite-batch still uses the projection last applied. */
+	private static boolean batchProjectionValid;
+	/** Projection last applied to the ShapeRenderer. */
+	private static final Matrix4 shapeProjection = new Matrix4();
+	/** 'True' if the ShapeRenderer still uses the projection last applied. */
+	private static boolean shapeProjectionValid;
+	/** Clipping storage. */
+	private static final Rectangle scissor = new Rectangle();
+
+
+	/** Regions wrapping the whole frame buffers pushed with pushDrawingContext(FrameBuffer), reused by stack depth. */
+	private static final ArrayList<FWTUIBuffer> wrappedBuffers = new ArrayList<FWTUIBuffer>();
 
 	/** Starts drawing to the given frame buffer context. */
 	public static void pushDrawingContext(FrameBuffer buffer)
 		{
 			// IF no buffer provided
 			if (buffer == null)
-				return; 
+				return;
+			// The region wrapping a buffer is only used while on the stack, so one per depth is enough
+			int depth = uiDrawingStack.size();
+			while (wrappedBuffers.size() <= depth)
+				wrappedBuffers.add(new FWTUIBuffer(buffer));
+			FWTUIBuffer region = wrappedBuffers.get(depth);
+			region.wrap(buffer);
+			pushDrawingContext(region, null);
+		}
+
 
-			// IF has current buffer
-			if (currentFrameBuffer != null)
-				// End previous buffer rendering
-				currentFrameBuffer.end();
+	/** Starts drawing to the given frame buffer region, limited to the given part of the region (null for the whole region). */
+	public static void pushDrawingContext(FWTUIBuffer buffer, Rectangle clip)
+		{
+			// IF no buffer provided
+			if (buffer == null || buffer.frameBuffer == null)
+				return;
+			UIRenderer.flush(FWTController.getSpriteBatch());
 
 			// Add new buffer to stack
 			uiDrawingStack.push(buffer);
-			currentFrameBuffer = buffer;
+			uiClipStack.push(clip);
 
 			// Begin buffer rendering
-			buffer.begin();
-
-			// Set proper projection matrices
-			FWTController.getSpriteBatch().setProjectionMatrix(new Matrix4().setToOrtho2D(0,0,buffer.getWidth(),buffer.getHeight()));
-			FWTController.getShapeRenderer().setProjectionMatrix(new Matrix4().setToOrtho2D(0,0,buffer.getWidth(),buffer.getHeight()));
-
+			beginContext(buffer, clip);
 		}
 
 
@@ -98,38 +157,168 @@ public class FWTUIFrameBufferController
 			// IF has no buffer, do nothing
 			if (currentFrameBuffer == null)
 				return null;
-
-			// End previous buffer rendering
-			currentFrameBuffer.end();
+			UIRenderer.flush(FWTController.getSpriteBatch());
 
 			// Remove buffer from stack
-			FrameBuffer lastBuffer = uiDrawingStack.pop();
+			FWTUIBuffer lastBuffer = uiDrawingStack.pop();
+			uiClipStack.pop();
 
 			// IF has another buffer on stack
 			if (!uiDrawingStack.isEmpty())
 				{
-					// Get last buffer
-					FrameBuffer buffer = uiDrawingStack.peek();
-					currentFrameBuffer = buffer;
 					// Return to last buffer rendering
-					buffer.begin();
-					// Set proper projection matrices
-					FWTController.getSpriteBatch().setProjectionMatrix(new Matrix4().setToOrtho2D(0,0,buffer.getWidth(),buffer.getHeight()));
-					FWTController.getShapeRenderer().setProjectionMatrix(new Matrix4().setToOrtho2D(0,0,buffer.getWidth(),buffer.getHeight()));
+					beginContext(uiDrawingStack.peek(), uiClipStack.peek());
 				}
 			else // ELSE back to main rendering
 				{
 					// Unbind buffers
 					FrameBuffer.unbind();
 					currentFrameBuffer = null;
+					Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+					Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
 
 					// Return to screen projection matrices
-					FWTController.getSpriteBatch().setProjectionMatrix(new Matrix4().setToOrtho2D(0,0,Gdx.graphics.getWidth(),Gdx.graphics.getHeight()));
-					FWTController.getShapeRenderer().setProjectionMatrix(new Matrix4().setToOrtho2D(0,0,Gdx.graphics.getWidth(),Gdx.graphics.getHeight()));
+					setProjection(getScreenProjection());
+
+				}
+			return lastBuffer.frameBuffer;
+
+		}
+
 
+	/** Binds the given region for drawing: viewport, clipping and projection matrices. */
+	private static void beginContext(FWTUIBuffer buffer, Rectangle clip)
+		{
+			// Regions of the bound frame buffer (e.g. atlas pages) need no rebind
+			if (currentFrameBuffer != buffer.frameBuffer)
+				{
+					currentFrameBuffer = buffer.frameBuffer;
+					buffer.frameBuffer.bind();
+					FWTProfiler.count(FWTProfiler.Counter.BINDS);
 				}
-			return lastBuffer;
 
+			// Limit drawing to the region
+			Gdx.gl.glViewport(buffer.x, buffer.y, buffer.width, buffer.height);
+			applyClip(buffer, clip, null);
+
+			// Set proper projection matrices
+			setProjection(buffer.getProjection());
+		}
+
+
+
+
+	/** Returns the screen projection matrix (cached per screen size). */
+	private static Matrix4 getScreenProjection()
+		{
+			int width = Gdx.graphics.getWidth();
+			int height = Gdx.graphics.getHeight();
+			if (width != screenWidth || height != screenHeight)
+				{
+					screenProjection.setToOrtho2D(0,0,width,height);
+					screenWidth = width;
+					screenHeight = height;
+				}
+			return screenProjection;
+		}
+
+
+	/** Sets the projection of the current drawing context. The sprite-batch is only updated if its projection differs,
+	 * the ShapeRenderer only once shapes are drawn (see {@link #applyShapeProjection()}). */
+	private static void setProjection(Matrix4 projection)
+		{
+			currentProjection = projection;
+			if (!batchProjectionValid || !Arrays.equals(batchProjection.val, projection.val))
+				{
+					FWTController.getSpriteBatch().setProjectionMatrix(projection);
+					batchProjection.set(projection);
+					batchProjectionValid = true;
+				}
+		}
+
+
+	/** Updates the ShapeRenderer projection to the current drawing context, if required. Must be called before shapes are drawn. */
+	public static void applyShapeProjection()
+		{
+			Matrix4 projection = (currentProjection == null) ? getScreenProjection() : currentProjection;
+			if (!shapeProjectionValid || !Arrays.equals(shapeProjection.val, projection.val))
+				{
+					FWTController.getShapeRenderer().setProjectionMatrix(projection);
+					shapeProjection.set(projection);
+					shapeProjectionValid = true;
+				}
+		}
+
+
+	/** Forgets the projections applied to the sprite-batch and ShapeRenderer (e.g. after they were changed outside of the UI).
+	 * The screen projection is applied again. */
+	public static void invalidateProjection()
+		{
+			batchProjectionValid = false;
+			shapeProjectionValid = false;
+			if (currentFrameBuffer == null)
+				setProjection(getScreenProjection());
+		}
+
+
+	/** Limits drawing to the given buffer region, its clipping region and the given bounds (null values are ignored).
+	 * Regions are in the buffer region's drawing coordinates (offset by its origin). */
+	private static void applyClip(FWTUIBuffer buffer, Rectangle clip, Rectangle bounds)
+		{
+			if (clip == null && bounds == null && !buffer.shared)
+				{
+					Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+					return;
+				}
+
+			scissor.set(buffer.originX, buffer.originY, buffer.width, buffer.height);
+			intersect(scissor, clip);
+			intersect(scissor, bounds);
+			scissor.x -= buffer.originX;
+			scissor.y -= buffer.originY;
+
+			// Cover every partially included pixel
+			int x = (int)Math.floor(scissor.x);
+			int y = (int)Math.floor(scissor.y);
+			Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+			Gdx.gl.glScissor(buffer.x + x, buffer.y + y, (int)Math.ceil(scissor.x + scissor.width) - x, (int)Math.ceil(scissor.y + scissor.height) - y);
+		}
+
+
+	/** Sets the given rectangle to its intersection with the given region (if not null). */
+	private static void intersect(Rectangle rect, Rectangle region)
+		{
+			if (region == null) return;
+			float x1 = Math.max(rect.x, region.x);
+			float y1 = Math.max(rect.y, region.y);
+			float x2 = Math.min(rect.x+rect.width, region.x+region.width);
+			float y2 = Math.min(rect.y+rect.height, region.y+region.height);
+			rect.set(x1, y1, Math.max(x2-x1, 0), Math.max(y2-y1, 0));
+		}
+
+
+	/** Limits drawing to the given bounds of the current drawing context (or screen), for components drawn without their own buffer. 
+	 * <br> Must be followed by {@link #endDirectClip()}. */
+	public static void beginDirectClip(Rectangle bounds)
+		{
+			UIRenderer.flush(FWTController.getSpriteBatch());
+			if (currentFrameBuffer == null)
+				{
+					int x = (int)Math.floor(bounds.x);
+					int y = (int)Math.floor(bounds.y);
+					Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+					Gdx.gl.glScissor(x, y, (int)Math.ceil(bounds.x + bounds.width) - x, (int)Math.ceil(bounds.y + bounds.height) - y);
+				}
+			else applyClip(uiDrawingStack.peek(), uiClipStack.peek(), bounds);
+		}
+
+	/** Restores the clipping of the current drawing context after {@link #beginDirectClip(Rectangle)}. */
+	public static void endDirectClip()
+		{
+			UIRenderer.flush(FWTController.getSpriteBatch());
+			if (currentFrameBuffer == null)
+				Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+			else applyClip(uiDrawingStack.peek(), uiClipStack.peek(), null);
 		}
 
 
@@ -157,54 +346,114 @@ public class FWTUIFrameBufferController
 	//============================================
 
 
-	/** The collection of UI frame buffers for double-buffer rendering. */
+	/** The UI frame buffer regions of each component, for double-buffer rendering. */
+	private static HashMap<Long,FWTUIBuffer> uiBufferRegions;
+
+	/** The frame buffer holding each component's region (shared by several components with atlas pages).
+	 * <br> Kept up to date for existing users, regions should be read with {@link #getUIBufferRegion(FWTComponent)}. */
 	public static HashMap<Long,FrameBuffer> uiBuffers;
 
 
-	/** Returns the frame buffer connected to the given UI component. If the buffer does not exist a new buffer is created. */
-	public static FrameBuffer getUIBuffer(FWTComponent component)
+	/** Returns the frame buffer region connected to the given UI component. If the buffer does not exist a new buffer is created. */
+	public static FWTUIBuffer getUIBufferRegion(FWTComponent component)
 		{
-			FrameBuffer fb =  uiBuffers.get(component.getID());
+			FWTUIBuffer fb =  uiBufferRegions.get(component.getID());
 			// IF does not exist
 			if (fb == null)
 				{
-					fb = new FrameBuffer(Format.RGBA8888,(int)component.getDimensions().width,(int)component.getDimensions().height,false);
-					uiBuffers.put(component.getID(), fb);
+					fb = pool.obtain(Math.max((int)component.getDimensions().width,1),Math.max((int)component.getDimensions().height,1));
+					putRegion(component, fb);
 				}
 			return fb;
 		}
 
+	/** Returns the frame buffer holding the region connected to the given UI component. If the buffer does not exist a new buffer is created.
+	 * <br> With atlas pages the frame buffer may be shared: use {@link #getUIBufferRegion(FWTComponent)} to draw only this component's part. */
+	public static FrameBuffer getUIBuffer(FWTComponent component)
+		{
+			return getUIBufferRegion(component).frameBuffer;
+		}
+
+
+	/** Connects the given region to the given UI component. */
+	private static void putRegion(FWTComponent component, FWTUIBuffer fb)
+		{
+			uiBufferRegions.put(component.getID(), fb);
+			uiBuffers.put(component.getID(), fb.frameBuffer);
+		}
+
 
 	/** Resizes the frame buffer connected to the given UI component based on its current width/height. */
-	public static void resizeUIBuffer(FWTComponent component) 
+	public static void resizeUIBuffer(FWTComponent component)
 		{
 			resizeUIBuffer(component, (int)component.getDimensions().width,(int)component.getDimensions().height);
 		}
 
 
 	/** Resizes the frame buffer connected to the given UI component with the specified size. */
-	public static void resizeUIBuffer(FWTComponent component, int width, int height) 
+	public static void resizeUIBuffer(FWTComponent component, int width, int height)
 		{
-			FrameBuffer fb =  uiBuffers.get(component.getID());
-			// IF exists
-			if (fb != null) // Remove old buffer
-				{removeUIBuffer(component);}
+			FWTUIBuffer fb =  uiBufferRegions.get(component.getID());
+			// IF exists with the same size, keep it
+			if (fb != null && fb.width == width && fb.height == height)
+				return;
 			// Ensure safe
 			if (width<=0 || height<=0)
+				{removeUIBuffer(component); return;}
+			FWTProfiler.count(FWTProfiler.Counter.RESIZES);
+			// IF exists and its allocation fits the new size, keep it
+			if (fb != null && pool.resize(fb, width, height))
 				return;
+			// IF exists
+			if (fb != null) // Remove old buffer
+				{removeUIBuffer(component);}
 			// Create new buffer
-			fb = new FrameBuffer(Format.RGBA8888,width,height,false);
-			uiBuffers.put(component.getID(), fb);
+			fb = pool.obtain(width, height);
+			putRegion(component, fb);
+
+		}
+
 
+	/** Scrolls the frame buffer connected to the given UI component by the given offset (in drawing coordinates).
+	 * The content still in view is copied to a new region whose origin is moved by the offset, and the old region
+	 * returns to the pool. The exposed part must then be redrawn. Returns 'false' if the content could not be copied. */
+	public static boolean scrollUIBuffer(FWTComponent component, int dx, int dy)
+		{
+			FWTUIBuffer old = uiBufferRegions.get(component.getID());
+			if (old == null)
+				return false;
+			FWTUIBuffer fb = pool.obtain(old.width, old.height);
+			// A region can't be copied within the same frame buffer
+			if (fb.frameBuffer == old.frameBuffer)
+				{pool.release(fb); return false;}
+			fb.setOrigin(old.originX + dx, old.originY + dy);
+
+			// Copy the retained content, drawn at its drawing coordinates
+			SpriteBatch spriteBatch = FWTController.getSpriteBatch();
+			pushDrawingContext(fb, null);
+			Gdx.gl.glClearColor(0f,0f,0f,0f);
+			Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+			UIRenderer.begin(spriteBatch);
+			spriteBatch.disableBlending();
+			spriteBatch.setColor(Color.WHITE);
+			old.draw(spriteBatch, old.originX, old.originY, old.width, old.height);
+			spriteBatch.enableBlending();
+			UIRenderer.end(spriteBatch);
+			popDrawingContext();
+
+			putRegion(component, fb);
+			pool.release(old);
+			return true;
 		}
 
 
 	/** Removes the frame buffer connected to the given UI component. */
-	public static void removeUIBuffer(FWTComponent component) 
+	public static void removeUIBuffer(FWTComponent component)
 		{
-			FrameBuffer fb = uiBuffers.remove(component.getID());
+			FWTUIBuffer fb = uiBufferRegions.remove(component.getID());
+			uiBuffers.remove(component.getID());
 			if (fb != null)
-				fb.dispose();
+				pool.release(fb);
 		}
 
 
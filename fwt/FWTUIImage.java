@@ -0,0 +1,100 @@
+package com.arboreantears.fwt;
+
+import com.badlogic.gdx.graphics.g2d.NinePatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.LongMap;
+
+
+/** A pre-resolved UI image: the atlas region (and nine-patch data) of a UI image name, looked up once.
+ * <p> Nine-patches are not held by the handle, they stay in the image manager's bounded cache.
+ * <br> Handles are shared per image name by {@link FWTImageManager#getUIImage(String)} and are
+ * re-resolved in place whenever the UI textures are reloaded. */
+public class FWTUIImage
+{
+
+	/** Handle of no image (null or empty name). */
+	public static final FWTUIImage NONE = new FWTUIImage(null);
+
+
+	/** The image name, including the '.9' suffix of nine-patch images. */
+	final String name;
+	/** Returns the image name, including the '.9' suffix of nine-patch images. */
+	public String getName() {return name;}
+
+	/** Name of the atlas region (without the '.9' suffix). */
+	final String regionName;
+
+	/** 'True' if this image is drawn as a nine-patch. */
+	final boolean ninePatch;
+	/** Returns 'true' if this image is drawn as a nine-patch. */
+	public boolean isNinePatch() {return ninePatch;}
+
+	/** The atlas region of this image (null if not loaded). */
+	volatile AtlasRegion region;
+	/** Returns the atlas region of this image (null if not loaded). */
+	public AtlasRegion getRegion() {return region;}
+	/** Returns 'true' if this image is currently loaded. */
+	public boolean isLoaded() {return region != null;}
+
+	/** Nine-patch splits of the region, L / R / T / B (null if the region defines no splits and pads). */
+	int[] splits;
+	/** Returns the nine-patch splits of the region, L / R / T / B (null if none). */
+	public int[] getSplits() {return splits;}
+
+	/** Creates the handle of the given image name. Unresolved until {@link #resolve()}. */
+	FWTUIImage(String name)
+		{
+			this.name = name;
+			this.ninePatch = name != null && name.endsWith(".9");
+			this.regionName = ninePatch ? name.substring(0, name.length()-2) : name;
+		}
+
+
+	/** Looks up this image in the current UI texture index. */
+	void resolve()
+		{
+			AtlasRegion reg = (regionName == null) ? null : FWTImageManager.findRegion(regionName);
+			splits = (reg != null && reg.findValue("splits") != null && reg.findValue("pads") != null) ? reg.findValue("splits") : null;
+			tiledGeometry.clear();
+			region = reg;
+		}
+
+
+	/** Returns the shared nine-patch of this image (null if not loaded).
+	 * <br> Looked up in the image manager's nine-patch cache on each call, so the handle never keeps an evicted patch. */
+	public NinePatch getNinePatch()
+		{
+			if (region == null) return null;
+			return FWTImageManager.getNinePatch(regionName);
+		}
+
+
+	/** Maximum number of cached tiled sizes per image. Older sizes are dropped together once exceeded. */
+	public static int MAX_TILED_SIZES = 16;
+
+	/** Cached tiled geometry by size and flips. */
+	private final LongMap<UIRenderer.TiledGeometry> tiledGeometry = new LongMap<UIRenderer.TiledGeometry>();
+
+	/** Returns the tiled geometry key of the given size and flips. */
+	private static long tiledKey(int width, int height, boolean flipX, boolean flipY)
+		{return ((long)width << 32) | ((long)(height & 0x3FFFFFFF) << 2) | (flipX ? 2 : 0) | (flipY ? 1 : 0);}
+
+	/** Returns the cached tiled geometry of this image at the given size (null if not cached). */
+	UIRenderer.TiledGeometry getTiledGeometry(int width, int height, boolean flipX, boolean flipY)
+		{
+			return tiledGeometry.get(tiledKey(width, height, flipX, flipY));
+		}
+
+	/** Caches the tiled geometry of this image at the given size. */
+	void putTiledGeometry(int width, int height, boolean flipX, boolean flipY, UIRenderer.TiledGeometry geometry)
+		{
+			if (tiledGeometry.size >= MAX_TILED_SIZES)
+				tiledGeometry.clear();
+			tiledGeometry.put(tiledKey(width, height, flipX, flipY), geometry);
+		}
+
+
+	@Override
+	public String toString() {return String.valueOf(name);}
+
+}
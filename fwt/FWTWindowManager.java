@@ -1,18 +1,24 @@
 package com.arboreantears.fwt;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.arboreantears.fwt.components.FWTComponent;
+import com.arboreantears.fwt.components.FWTProfilerWindow;
 import com.arboreantears.fwt.components.FWTWindow;
 import com.arboreantears.fwt.components.UIToolTipBar;
 import com.arboreantears.fwt.events.FWTDragNDropEvent;
 import com.arboreantears.fwt.events.FWTInputEvent;
 import com.arboreantears.fwt.events.FWTInputEvent.FWTEventType;
+import com.arboreantears.fwt.events.FWTInputEventPool;
 import com.arboreantears.fwt.events.FWTKeyEvent;
 import com.arboreantears.fwt.events.FWTScrollEvent;
+import com.arboreantears.fwt.events.FWTTask;
+import com.arboreantears.fwt.events.FWTTask.Priority;
 import com.arboreantears.fwt.events.FWTTouchEvent;
 import com.arboreantears.fwt.events.FWTTouchUpEvent;
 import com.badlogic.gdx.Gdx;
@@ -84,6 +90,16 @@ public class FWTWindowManager implements Runnable {
     ArrayList<FWTWindow> windows = new ArrayList<FWTWindow>();
 
 
+    /** The managed windows in z-order, front (layer 0) to back. Each window's layer is its index. */
+    ArrayList<FWTWindow> zOrder = new ArrayList<FWTWindow>();
+
+    /** Sets the layer of each window in z-order from the given index up to (excluding) the given end index. */
+    private void renumberLayers(int from, int to) {
+        for (int ii = from; ii < to; ii++)
+            zOrder.get(ii).setLayer(ii);
+    }
+
+
     /** The list of windows ready to be removed by the window manager. */
     ArrayList<FWTWindow> disposalList = new ArrayList<FWTWindow>();
 
@@ -107,12 +123,13 @@ public class FWTWindowManager implements Runnable {
     /** Adds the given window to this window manager. Will not add an existing window. */
     public synchronized void addWindow(FWTWindow window) {
         if (window != null && !windows.contains(window)) {
-            window.setLayer(windows.size());
+            window.setLayer(zOrder.size());
             window.setWindowManager(this);
             if (window instanceof IGlobalKeyReceiver)
                 registerGlobalKeyReceiver((IGlobalKeyReceiver) window);
             window.onAdded();
             windows.add(window);
+            zOrder.add(window);
         }
     }
 
@@ -122,20 +139,31 @@ public class FWTWindowManager implements Runnable {
             window.onRemoved();
             if (window instanceof IGlobalKeyReceiver)
                 removeGlobalKeyReceiver((IGlobalKeyReceiver) window);
-            int layer = window.getLayer();
             window.setWindowManager(null);
             windows.remove(window);
+            // Windows behind the removed window move forward
+            int layer = zOrder.indexOf(window);
+            if (layer >= 0) {
+                zOrder.remove(layer);
+                renumberLayers(layer, zOrder.size());
+            }
             window.closing();
             window.dispose();
-            for (FWTWindow win2 : windows) {
-                // IF has layer higher than removed window
-                if (win2.getLayer() > layer)
-                    // Decrement layer
-                    win2.setLayer(win2.getLayer() - 1);
-            }
         }
     }
 
+    /** Shows or hides the frame profiler overlay window of this manager.
+     * <br> The overlay is not focusable: it is kept behind the other windows and never takes the active window. */
+    public synchronized void setProfilerOverlay(boolean show) {
+        FWTWindow overlay = getWindowByName(FWTProfilerWindow.NAME);
+        if (show && overlay == null)
+            addWindow(new FWTProfilerWindow(340, 260));
+        else if (show)
+            overlay.open();
+        else if (overlay != null)
+            overlay.close();
+    }
+
     /** Removes all windows from this window manager. */
     public synchronized void clearWindows() {
         Iterator<FWTWindow> itrW = windows.iterator();
@@ -147,6 +175,7 @@ public class FWTWindowManager implements Runnable {
             itrW.remove();
             win.dispose();
         }
+        zOrder.clear();
 
     }
 
@@ -207,14 +236,13 @@ public class FWTWindowManager implements Runnable {
             // Set blocking
             if (activeWindow.isBlocking())
                 blocking = true;
-            // Adjust layers
-            for (FWTWindow win2 : windows) {
-                // IF has layer lower than new current window
-                if (win2.getLayer() < activeWindow.getLayer())
-                    // Increment layer
-                    win2.setLayer(win2.getLayer() + 1);
+            // Move to the front, windows in front of it move back one layer
+            int layer = zOrder.indexOf(activeWindow);
+            if (layer > 0) {
+                zOrder.remove(layer);
+                zOrder.add(0, activeWindow);
+                renumberLayers(0, layer + 1);
             }
-            activeWindow.setLayer(0);
         }
     }
 
@@ -292,9 +320,19 @@ public class FWTWindowManager implements Runnable {
      * DO NOT USE. Create a new window manager through FWTController.createWindowManager().
      */
     protected FWTWindowManager(String name, boolean singleThreaded) {
+        this(name, singleThreaded, false);
+    }
+
+    /**
+     * Creates a new empty window manager, whether the manager uses single-threaded inputs,
+     * and whether the FWTInputThread runs on a virtual thread (falls back to a platform thread if not supported).
+     * DO NOT USE. Create a new window manager through FWTController.createWindowManager().
+     */
+    protected FWTWindowManager(String name, boolean singleThreaded, boolean virtualThread) {
         this();
         this.name = name;
         this.singleThreadInputEvents = singleThreaded;
+        this.virtualInputThread = virtualThread;
 
         // IF multy-threaded, start input thread
         if (!singleThreadInputEvents)
@@ -332,13 +370,45 @@ public class FWTWindowManager implements Runnable {
     }
 
 
+    // OPENGL TASKS
+    // ********************************************************************
+    // ********************************************************************
+
+    /** Scheduler for tasks to be processed on the OpenGL thread. */
+    final FWTTaskScheduler taskScheduler = new FWTTaskScheduler();
+
+    /** Returns the scheduler for tasks to be processed on the OpenGL thread. */
+    public FWTTaskScheduler getTaskScheduler() {return taskScheduler;}
+
+    /** Returns the maximum time spent processing tasks per frame [nanoseconds]. */
+    public long getTaskBudget() {return taskScheduler.getBudget();}
+
+    /** Sets the maximum time spent processing tasks per frame [nanoseconds]. At least one task is processed each frame. */
+    public void setTaskBudget(long nanos) {taskScheduler.setBudget(nanos);}
+
+    /** Adds the given task to be processed on the OpenGL thread during render. Can be called from any thread. */
+    public void addTask(FWTTask task) {taskScheduler.submit(task);}
+
+    /** Adds the given task with the given priority to be processed on the OpenGL thread during render. Can be called from any thread. */
+    public void addTask(FWTTask task, Priority priority) {taskScheduler.submit(task, priority);}
+
+
     // RENDER
     // ********************************************************************
     // ********************************************************************
 
     /** Renders all the enabled windows with the active window in the top layer. */
     public synchronized void render() {
+        FWTProfiler.beginFrame();
         try {
+            // PENDING MOVE EVENTS
+            //-------------------
+            flushPendingMoves();
+
+            // OPENGL TASKS
+            //-------------------
+            taskScheduler.process();
+
             // CLOSING WINDOWS
             //-------------------
             // FOR each window
@@ -384,33 +454,39 @@ public class FWTWindowManager implements Runnable {
                     win.enable();
                     win.setReadyToOpen(false);
                     win.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-                    setActiveWindow(win);
+                    if (win.isFocusable())
+                        setActiveWindow(win);
                     win.opening();
                 }
             }
 
+            // One sprite-batch pass for all windows
+            FWTUIFrameBufferController.invalidateProjection();
+            UIRenderer.beginPass(FWTController.getSpriteBatch());
+
             // DRAWING ENABLED WINDOWS
             //-------------------
             // FOR each layer (starting at the back)
-            for (int ii = windows.size() - 1; ii > -1; ii--)
-                // FOR each window
-                for (FWTWindow win : windows) {
-                    // IF on this layer
-                    if (win.getLayer() == ii) {
-                        // IF window enabled AND (no active window OR is not active window)
-                        if (win.isEnabled() && (activeWindow == null || activeWindow.getID() != win.getID())) {
-                            // Hidden windows get updates, but aren't rendered
-                            if (win.isHidden())
-                                win.update();
-                            else
-                            // Update and Render window
-                            {
-                                win.update();
-                                win.render();
-                            }
-                        }
+            for (int ii = zOrder.size() - 1; ii > -1; ii--) {
+                // Windows may be removed while updating
+                if (ii >= zOrder.size())
+                    continue;
+                FWTWindow win = zOrder.get(ii);
+                // IF window enabled AND (no active window OR is not active window)
+                if (win.isEnabled() && (activeWindow == null || activeWindow.getID() != win.getID())) {
+                    // Hidden windows get updates, but aren't rendered
+                    long start = FWTProfiler.start();
+                    if (win.isHidden())
+                        win.update();
+                    else
+                    // Update and Render window
+                    {
+                        win.update();
+                        win.render();
                     }
+                    FWTProfiler.recordWindow(win.getName(), start);
                 }
+            }
 
 
             // DRAWING SCREEN DIMMER
@@ -418,7 +494,7 @@ public class FWTWindowManager implements Runnable {
             if (activeWindow != null && activeWindow.isDimming()) {
                 ShapeRenderer shape = FWTController.getShapeRenderer();
                 FWTController.enableBlending();
-                shape.begin(ShapeType.Filled);
+                UIRenderer.beginShapes(shape, ShapeType.Filled);
                 shape.setColor(DIM_GRAY);
                 shape.rect(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
                 shape.end();
@@ -427,9 +503,12 @@ public class FWTWindowManager implements Runnable {
             // DRAWING ACTIVE WINDOW
             //-------------------
             // IF has active window
-            if (activeWindow != null && activeWindow.isEnabled())
+            if (activeWindow != null && activeWindow.isEnabled()) {
                 // Render window
+                long start = FWTProfiler.start();
                 activeWindow.render();
+                FWTProfiler.recordWindow(activeWindow.getName(), start);
+            }
 
 
             // DRAWING TOOL-TIP BAR
@@ -441,6 +520,9 @@ public class FWTWindowManager implements Runnable {
             FWTController.error("FWTManager: Error processing FWTWindow.");
             FWTController.error(ex.getMessage());
             ex.printStackTrace();
+        } finally {
+            UIRenderer.endPass(FWTController.getSpriteBatch());
+            FWTProfiler.endFrame(UIRenderer.getDrawCalls());
         }
 
     }
@@ -452,7 +534,10 @@ public class FWTWindowManager implements Runnable {
 
     /** Dispose of this window manager and all managed windows. */
     public void dispose() {
+        clearPendingMoves();
         stopInputThread();
+        // Waiting tasks are cancelled, releasing threads waiting on them
+        taskScheduler.close();
         activeWindow = null;
         mouseWindow = null;
         clearWindows();
@@ -463,29 +548,42 @@ public class FWTWindowManager implements Runnable {
     // ********************************************************************
     // ********************************************************************
 
+    /**
+     * Returns the front-most enabled and visible window containing the given coordinates that can accept input,
+     * or null if none. While blocking, only the active window accepts input.
+     */
+    FWTWindow getInputWindowAt(int mX, int mY) {
+        // FOR each layer (starting at the front)
+        for (int ii = 0; ii < zOrder.size(); ii++) {
+            FWTWindow win = zOrder.get(ii);
+            if (win.isEnabled() && !win.isHidden() && win.contains(mX, mY)) {
+                // IF has NO active window OR (is NOT blocking OR is same as blocking window)
+                if (activeWindow == null || (!blocking || activeWindow.getID() == win.getID()))
+                    return win;
+            }
+        }
+        return null;
+    }
+
     /** Touch down on the available windows. Returns 'true' if a window accepted the event. */
     public boolean touchDown(int mX, int mY, int pointer, int button) {
+        flushPendingMoves();
         mouseDownX = mX;
         mouseDownY = mY;
         try {
-            // FOR each layer (starting at the front)
-            for (int ii = 0; ii < windows.size(); ii++)
-                for (FWTWindow win : windows)
-                    if (win.getLayer() == ii)
-                        if (win.isEnabled() && !win.isHidden() && win.contains(mX, mY)) {
-                            // IF has NO active window OR (is NOT blocking OR is same as blocking window)
-                            if (activeWindow == null || (!blocking || activeWindow.getID() == win.getID())) {
-                                // Sets as active window and adjust layers
-                                setActiveWindow(win);
-
-                                // Handle TOUCH DOWN Event
-                                if (singleThreadInputEvents)
-                                    win.touchDown(mX, mY, pointer, button);
-                                else
-                                    addInputEvent(new FWTTouchEvent(win, FWTEventType.TOUCH_DOWN, mX, mY, pointer, button));
-                                return true;
-                            }
-                        }
+            FWTWindow win = getInputWindowAt(mX, mY);
+            if (win != null) {
+                // Sets as active window and adjust layers
+                if (win.isFocusable())
+                    setActiveWindow(win);
+
+                // Handle TOUCH DOWN Event
+                if (singleThreadInputEvents)
+                    win.touchDown(mX, mY, pointer, button);
+                else
+                    addInputEvent(eventPool.obtainTouch(win, FWTEventType.TOUCH_DOWN, mX, mY, pointer, button));
+                return true;
+            }
             if (!blocking)
                 setActiveWindow(null);
         } catch (Exception ex) {
@@ -500,6 +598,7 @@ public class FWTWindowManager implements Runnable {
      * <br> Returns 'true' if a component accepted the mouse event.
      */
     public boolean touchUp(int mX, int mY, int pointer, int button) {
+        flushPendingMoves();
         isDragging = false;
         mouseDownX = -1;
         mouseDownY = -1;
@@ -511,36 +610,31 @@ public class FWTWindowManager implements Runnable {
                 FWTComponent draggedComp = dragComponent;
                 dragComponent = null;
 
-                // FOR each layer (starting at the front)
-                for (int ii = 0; ii < windows.size(); ii++)
-                    for (FWTWindow win : windows)
-                        if (win.getLayer() == ii)
-                            if (win.isEnabled() && !win.isHidden() && win.contains(mX, mY)) {
-                                // IF has NO active window OR (is NOT blocking OR is same as blocking window)
-                                if (activeWindow == null || (!blocking || activeWindow.getID() == win.getID())) {
-                                    // Sets as active window and adjust layers
-                                    setActiveWindow(win);
-
-                                    // Handle DRAG'N'DROP Event
-                                    if (singleThreadInputEvents) {
-                                        win.dragNDrop(mX, mY, pointer, button, draggedComp);
-                                        draggedComp.dragRelease(mX, mY, pointer);
-                                    } else {
-                                        // Send drag'n'drop to window
-                                        addInputEvent(new FWTDragNDropEvent(win, FWTEventType.DRAG_N_DROP, mX, mY, pointer, button, draggedComp));
-
-                                        // Send drag release event to the dragged component
-                                        addInputEvent(new FWTTouchEvent(draggedComp, FWTEventType.DRAG_RELEASE, mX, mY, pointer, button));
-                                    }
-                                    return true;
-                                }
-                            }
+                FWTWindow win = getInputWindowAt(mX, mY);
+                if (win != null) {
+                    // Sets as active window and adjust layers
+                    if (win.isFocusable())
+                        setActiveWindow(win);
+
+                    // Handle DRAG'N'DROP Event
+                    if (singleThreadInputEvents) {
+                        win.dragNDrop(mX, mY, pointer, button, draggedComp);
+                        draggedComp.dragRelease(mX, mY, pointer);
+                    } else {
+                        // Send drag'n'drop to window
+                        addInputEvent(eventPool.obtainDragNDrop(win, FWTEventType.DRAG_N_DROP, mX, mY, pointer, button, draggedComp));
+
+                        // Send drag release event to the dragged component
+                        addInputEvent(eventPool.obtainTouch(draggedComp, FWTEventType.DRAG_RELEASE, mX, mY, pointer, button));
+                    }
+                    return true;
+                }
 
                 // DRAG RELEASE event on the dragged component
                 if (singleThreadInputEvents)
                     draggedComp.dragRelease(mX, mY, pointer);
                 else
-                    addInputEvent(new FWTTouchEvent(draggedComp, FWTEventType.DRAG_RELEASE, mX, mY, pointer, button));
+                    addInputEvent(eventPool.obtainTouch(draggedComp, FWTEventType.DRAG_RELEASE, mX, mY, pointer, button));
             }
             dragComponent = null;
 
@@ -562,9 +656,9 @@ public class FWTWindowManager implements Runnable {
                     } else {
                         // Add touch-up event to parent window while indicating the touch-down receiver
                         if (mouseComp.getParentWindow() != null)
-                            addInputEvent(new FWTTouchUpEvent(mouseComp.getParentWindow(), FWTEventType.TOUCH_UP, mX, mY, pointer, button, mouseComp));
+                            addInputEvent(eventPool.obtainTouchUp(mouseComp.getParentWindow(), FWTEventType.TOUCH_UP, mX, mY, pointer, button, mouseComp));
                         else // ELSE is window
-                            addInputEvent(new FWTTouchUpEvent(mouseComp, FWTEventType.TOUCH_UP, mX, mY, pointer, button, mouseComp));
+                            addInputEvent(eventPool.obtainTouchUp(mouseComp, FWTEventType.TOUCH_UP, mX, mY, pointer, button, mouseComp));
                     }
                     return true;
                 }
@@ -581,61 +675,55 @@ public class FWTWindowManager implements Runnable {
             // Hide Tool-tip bar
             getTooltip().hide();
 
-            // FOR each layer (starting at the front)
-            for (int ii = 0; ii < windows.size(); ii++)
-                // FOR each window
-                for (FWTWindow win : windows) {
-                    // IF on this layer AND is enabled AND
-                    // contains mouse coordinates
-                    if (win.getLayer() == ii && win.isEnabled() && !win.isHidden() && win.contains(mX, mY)) {
-                        // IF has NO active window OR (is NOT blocking OR is same as blocking window)
-                        if (activeWindow == null || (!blocking || activeWindow.getID() == win.getID())) {
-                            // IF has no previous window
-                            if (mouseWindow == null) {
-                                // Enter window
-                                mouseWindow = win;
-                                // Handle ON ENTER Event
-                                if (singleThreadInputEvents)
-                                    win.onEnter();
-                                else
-                                    addInputEvent(new FWTInputEvent(win, FWTEventType.ON_ENTER));
-                            }
-
-                            // IF not the same window as previous
-                            else if (mouseWindow.getID() != win.getID()) {
-                                // Handle ON EXIT Event
-                                if (singleThreadInputEvents)
-                                    mouseWindow.onExit();
-                                else
-                                    // Leave last focus window
-                                    addInputEvent(new FWTInputEvent(mouseWindow, FWTEventType.ON_EXIT));
-
-                                // Enter next focus window
-                                mouseWindow = win;
-                                // Handle ON ENTER Event
-                                if (singleThreadInputEvents)
-                                    win.onEnter();
-                                else
-                                    addInputEvent(new FWTInputEvent(win, FWTEventType.ON_ENTER));
-                            }
-
-                            // Handle MOUSE MOVED Event
-                            if (singleThreadInputEvents)
-                                win.mouseMoved(mX, mY);
-                            else
-                                addInputEvent(new FWTTouchEvent(win, FWTEventType.MOUSE_MOVED, mX, mY, -1, -1));
-                            return true;
-                        }
-                    }
+            FWTWindow win = getInputWindowAt(mX, mY);
+            if (win != null) {
+                // IF has no previous window
+                if (mouseWindow == null) {
+                    // Moves before entering are dispatched first
+                    flushPendingMoves();
+                    // Enter window
+                    mouseWindow = win;
+                    // Handle ON ENTER Event
+                    if (singleThreadInputEvents)
+                        win.onEnter();
+                    else
+                        addInputEvent(eventPool.obtain(win, FWTEventType.ON_ENTER));
                 }
 
+                // IF not the same window as previous
+                else if (mouseWindow.getID() != win.getID()) {
+                    // Moves before leaving are dispatched first
+                    flushPendingMoves();
+                    // Handle ON EXIT Event
+                    if (singleThreadInputEvents)
+                        mouseWindow.onExit();
+                    else
+                        // Leave last focus window
+                        addInputEvent(eventPool.obtain(mouseWindow, FWTEventType.ON_EXIT));
+
+                    // Enter next focus window
+                    mouseWindow = win;
+                    // Handle ON ENTER Event
+                    if (singleThreadInputEvents)
+                        win.onEnter();
+                    else
+                        addInputEvent(eventPool.obtain(win, FWTEventType.ON_ENTER));
+                }
+
+                // Handle MOUSE MOVED Event
+                queueMouseMoved(win, mX, mY);
+                return true;
+            }
+
             // IF no window caught movement
             if (mouseWindow != null) {
+                // Moves before leaving are dispatched first
+                flushPendingMoves();
                 // Handle ON EXIT Event
                 if (singleThreadInputEvents)
                     mouseWindow.onExit();
                 else
-                    addInputEvent(new FWTInputEvent(mouseWindow, FWTEventType.ON_EXIT));
+                    addInputEvent(eventPool.obtain(mouseWindow, FWTEventType.ON_EXIT));
                 mouseWindow = null;
             }
 
@@ -669,10 +757,7 @@ public class FWTWindowManager implements Runnable {
             // ELSE has drag component
             {
                 // Handle TOUCH DRAGGED Event
-                if (singleThreadInputEvents)
-                    dragComponent.touchDragged(mX, mY, pointer);
-                else
-                    addInputEvent(new FWTTouchEvent(dragComponent, FWTEventType.TOUCH_DRAGGED, mX, mY, pointer, -1));
+                queueTouchDragged(dragComponent, mX, mY, pointer);
 
                 // Also provide MOUSE MOVED event
                 mouseMoved(mX, mY);
@@ -693,6 +778,7 @@ public class FWTWindowManager implements Runnable {
 
     /** Mouse scroll on the active window. Returns 'true' if a window accepted the scroll event. */
     public boolean scrolled(float amountX, float amountY) {
+        flushPendingMoves();
         try {
             for (FWTWindow win : windows)
                 if (activeWindow != null && activeWindow.getID() == win.getID() && activeWindow.isEnabled()) {
@@ -700,7 +786,7 @@ public class FWTWindowManager implements Runnable {
                     if (singleThreadInputEvents)
                         return win.scrolled(amountX, amountY);
                     else {
-                        addInputEvent(new FWTScrollEvent(win, FWTEventType.SCROLLED, amountX, amountY));
+                        addInputEvent(eventPool.obtainScroll(win, FWTEventType.SCROLLED, amountX, amountY));
                         return true;
                     }
                 }
@@ -718,6 +804,7 @@ public class FWTWindowManager implements Runnable {
 
     /** Key down on the active window. Returns 'true' if a window accepted the key event. */
     public boolean keyDown(int keycode) {
+        flushPendingMoves();
         try {
             if (!blocking)
                 for (IGlobalKeyReceiver gKeyReceive : globalKeyReceivers)
@@ -728,7 +815,7 @@ public class FWTWindowManager implements Runnable {
                 if (singleThreadInputEvents)
                     return activeWindow.keyDown(keycode);
                 else {
-                    addInputEvent(new FWTKeyEvent(activeWindow, FWTEventType.KEY_DOWN, keycode));
+                    addInputEvent(eventPool.obtainKey(activeWindow, FWTEventType.KEY_DOWN, keycode));
                     return true;
                 }
             }
@@ -741,6 +828,7 @@ public class FWTWindowManager implements Runnable {
 
     /** Key up on the active window. Returns 'true' if a window accepted the key event. */
     public boolean keyUp(int keycode) {
+        flushPendingMoves();
         try {
             if (!blocking)
                 for (IGlobalKeyReceiver gKeyReceive : globalKeyReceivers)
@@ -751,7 +839,7 @@ public class FWTWindowManager implements Runnable {
                 if (singleThreadInputEvents)
                     return activeWindow.keyUp(keycode);
                 else {
-                    addInputEvent(new FWTKeyEvent(activeWindow, FWTEventType.KEY_UP, keycode));
+                    addInputEvent(eventPool.obtainKey(activeWindow, FWTEventType.KEY_UP, keycode));
                     return true;
                 }
             }
@@ -764,6 +852,7 @@ public class FWTWindowManager implements Runnable {
 
     /** Key typed on the active window. Returns 'true' if a window accepted the key event. */
     public boolean keyTyped(char keychar) {
+        flushPendingMoves();
         try {
             if (!blocking)
                 for (IGlobalKeyReceiver gKeyReceive : globalKeyReceivers)
@@ -774,7 +863,7 @@ public class FWTWindowManager implements Runnable {
                 if (singleThreadInputEvents)
                     return activeWindow.keyTyped(keychar);
                 else {
-                    addInputEvent(new FWTKeyEvent(activeWindow, FWTEventType.KEY_TYPED, keychar));
+                    addInputEvent(eventPool.obtainKey(activeWindow, FWTEventType.KEY_TYPED, keychar));
                 }
                 return true;
             }
@@ -801,57 +890,312 @@ public class FWTWindowManager implements Runnable {
     public void removeGlobalKeyReceiver(IGlobalKeyReceiver gkeyReceive) {globalKeyReceivers.remove(gkeyReceive);}
 
 
+    // INPUT COALESCING
+    // ********************************************************************
+    // ********************************************************************
+
+    /** 'True' if consecutive mouse moved and touch dragged events for the same target are coalesced into the latest position. */
+    boolean coalesceMoveEvents = true;
+
+    /** Returns 'true' if consecutive mouse moved and touch dragged events for the same target are coalesced into the latest position. */
+    public boolean isCoalescingMoveEvents() {return coalesceMoveEvents;}
+
+    /** Sets if consecutive mouse moved and touch dragged events for the same target are coalesced into the latest position. */
+    public void setCoalescingMoveEvents(boolean coalesce) {
+        flushPendingMoves();
+        coalesceMoveEvents = coalesce;
+    }
+
+    /** Lock for the pending move events. */
+    private final Object pendingLock = new Object();
+
+    /** Window with a pending MOUSE MOVED event (null if none). */
+    private FWTComponent pendingMoveTarget;
+    /** Latest position of the pending MOUSE MOVED event. */
+    private int pendingMoveX, pendingMoveY;
+
+    /** Component with a pending TOUCH DRAGGED event (null if none). */
+    private FWTComponent pendingDragTarget;
+    /** Latest position and pointer of the pending TOUCH DRAGGED event. */
+    private int pendingDragX, pendingDragY, pendingDragPointer;
+
+    /** Number of move and drag events merged into a later one. */
+    long coalescedEventCount = 0;
+
+    /** Returns the number of move and drag events merged into a later one. */
+    public long getCoalescedEventCount() {return coalescedEventCount;}
+
+    /** Number of move and drag events dispatched. */
+    long dispatchedMoveCount = 0;
+
+    /** Returns the number of move and drag events dispatched. */
+    public long getDispatchedMoveCount() {return dispatchedMoveCount;}
+
+
+    /** Queues a MOUSE MOVED event for the given window, replacing a pending one for the same window. */
+    private void queueMouseMoved(FWTComponent win, int mX, int mY) {
+        if (!coalesceMoveEvents) {
+            dispatchMouseMoved(win, mX, mY);
+            return;
+        }
+        // A different target ends the run of moves
+        if (pendingMoveTarget != null && pendingMoveTarget != win)
+            flushPendingMoves();
+        synchronized (pendingLock) {
+            if (pendingMoveTarget != null) coalescedEventCount++;
+            pendingMoveTarget = win;
+            pendingMoveX = mX;
+            pendingMoveY = mY;
+        }
+    }
+
+    /** Queues a TOUCH DRAGGED event for the given component, replacing a pending one for the same component and pointer. */
+    private void queueTouchDragged(FWTComponent comp, int mX, int mY, int pointer) {
+        if (!coalesceMoveEvents) {
+            dispatchTouchDragged(comp, mX, mY, pointer);
+            return;
+        }
+        // A different target ends the run of drags
+        if (pendingDragTarget != null && (pendingDragTarget != comp || pendingDragPointer != pointer))
+            flushPendingMoves();
+        synchronized (pendingLock) {
+            if (pendingDragTarget != null) coalescedEventCount++;
+            pendingDragTarget = comp;
+            pendingDragX = mX;
+            pendingDragY = mY;
+            pendingDragPointer = pointer;
+        }
+    }
+
+    /**
+     * Dispatches any pending move and drag events.
+     * <br> Called before any other input event (so ordering is kept) and at the start of each frame.
+     */
+    public void flushPendingMoves() {
+        FWTComponent dragTarget, moveTarget;
+        int dragX, dragY, dragPointer, moveX, moveY;
+        synchronized (pendingLock) {
+            dragTarget = pendingDragTarget;
+            dragX = pendingDragX;
+            dragY = pendingDragY;
+            dragPointer = pendingDragPointer;
+            moveTarget = pendingMoveTarget;
+            moveX = pendingMoveX;
+            moveY = pendingMoveY;
+            pendingDragTarget = null;
+            pendingMoveTarget = null;
+        }
+        // Drags are generated before their accompanying move
+        if (dragTarget != null)
+            dispatchTouchDragged(dragTarget, dragX, dragY, dragPointer);
+        if (moveTarget != null)
+            dispatchMouseMoved(moveTarget, moveX, moveY);
+    }
+
+    /** Discards any pending move and drag events. */
+    private void clearPendingMoves() {
+        synchronized (pendingLock) {
+            pendingDragTarget = null;
+            pendingMoveTarget = null;
+        }
+    }
+
+    /** Dispatches a MOUSE MOVED event to the given window. */
+    private void dispatchMouseMoved(FWTComponent win, int mX, int mY) {
+        dispatchedMoveCount++;
+        try {
+            if (singleThreadInputEvents)
+                win.mouseMoved(mX, mY);
+            else
+                addInputEvent(eventPool.obtainTouch(win, FWTEventType.MOUSE_MOVED, mX, mY, -1, -1));
+        } catch (Exception ex) {
+            FWTController.error("MouseMoved: " + ex.getMessage());
+        }
+    }
+
+    /** Dispatches a TOUCH DRAGGED event to the given component. */
+    private void dispatchTouchDragged(FWTComponent comp, int mX, int mY, int pointer) {
+        dispatchedMoveCount++;
+        try {
+            if (singleThreadInputEvents)
+                comp.touchDragged(mX, mY, pointer);
+            else
+                addInputEvent(eventPool.obtainTouch(comp, FWTEventType.TOUCH_DRAGGED, mX, mY, pointer, -1));
+        } catch (Exception ex) {
+            FWTController.error("TouchDragged: " + ex.getMessage());
+        }
+    }
+
+
     // INPUT THREAD
     // ********************************************************************
     // ********************************************************************
 
+    /** Maximum number of queued input events processed per batch by the FWTInputThread. */
+    public static final int INPUT_BATCH_SIZE = 64;
+
+    /** Event queued to wake the FWTInputThread so it can stop. */
+    private static final FWTInputEvent STOP_EVENT = new FWTInputEvent(null, FWTEventType.ON_EXIT);
+
     /** The FWTInputThread. */
-    Thread inputThread;
+    volatile Thread inputThread;
 
     /** 'True' if the FWTInputThread should stop running. */
-    private boolean stopInputThread = false;
+    private volatile boolean stopInputThread = false;
+
+    /** 'True' if the FWTInputThread is run on a virtual thread (when supported by the Java runtime). */
+    boolean virtualInputThread = false;
+
+    /** Returns 'true' if the FWTInputThread is requested to run on a virtual thread. */
+    public boolean isVirtualInputThread() {return virtualInputThread;}
+
+    /** Number of input events the array-backed queue holds before overflowing. */
+    public static final int INPUT_QUEUE_CAPACITY = 1024;
+
+    /** Queue of input events waiting for the FWTInputThread. Array-backed, so queueing does not allocate. */
+    private final BlockingQueue<FWTInputEvent> inputEvents = new ArrayBlockingQueue<FWTInputEvent>(INPUT_QUEUE_CAPACITY);
 
-    private BlockingQueue<FWTInputEvent> inputEvents;
+    /** Unbounded overflow of the input queue, in order after it. Guarded by itself.
+     * <br> Moved back into the queue by the FWTInputThread as it drains it, so input is never lost. */
+    private final ArrayDeque<FWTInputEvent> overflowEvents = new ArrayDeque<FWTInputEvent>();
 
-    /** Adds the given input event to the queue for processing by the FWTInputThread. */
-    public void addInputEvent(FWTInputEvent event) {inputEvents.add(event);}
+    /** Pools of input events queued for the FWTInputThread. Events are released once processed. */
+    final FWTInputEventPool eventPool = new FWTInputEventPool();
+
+    /** Returns the pools of input events queued for the FWTInputThread. */
+    public FWTInputEventPool getEventPool() {return eventPool;}
+
+    /** Number of mouse moved and touch dragged events dropped because the queue was full. */
+    private final AtomicLong droppedEventCount = new AtomicLong();
+
+    /** Returns the number of mouse moved and touch dragged events dropped because the queue was full. */
+    public long getDroppedEventCount() {return droppedEventCount.get();}
+
+    /** Adds the given input event to the queue for processing by the FWTInputThread.
+     * <br> Never waits (it is called from the OpenGL thread, possibly holding this manager's lock). When the queue is
+     * full, mouse moved and touch dragged events are dropped (a later one carries the latest position) and all other
+     * events go to the unbounded overflow. Events added once the FWTInputThread stopped are released. */
+    public void addInputEvent(FWTInputEvent event) {
+        if (stopInputThread) {
+            eventPool.release(event);
+            return;
+        }
+        synchronized (overflowEvents) {
+            // Keep the order: once overflowing, everything goes after the overflow
+            if (overflowEvents.isEmpty() && inputEvents.offer(event))
+                return;
+            if (event.type != FWTEventType.MOUSE_MOVED && event.type != FWTEventType.TOUCH_DRAGGED) {
+                overflowEvents.add(event);
+                return;
+            }
+        }
+        eventPool.release(event);
+        if (droppedEventCount.incrementAndGet() == 1 || DEBUG_MODE)
+            FWTController.log("FWTWindowManager: Input queue full, dropping mouse moved and touch dragged events.");
+    }
+
+    /** Moves overflowed input events back into the queue, as far as it has room. Called by the FWTInputThread after
+     * draining the queue, so it is never empty while events overflow. */
+    private void refillInputEvents() {
+        synchronized (overflowEvents) {
+            FWTInputEvent event;
+            while ((event = overflowEvents.peek()) != null && inputEvents.offer(event))
+                overflowEvents.poll();
+        }
+    }
 
 
     /** Starts the FWTInputThread. */
-    private void startInputThread() {
+    private synchronized void startInputThread() {
         if (inputThread != null)
             return;
-        inputThread = new Thread(this, "FWTInputThread");
-        inputThread.start();
+        stopInputThread = false;
+        Thread thread = null;
+        if (virtualInputThread)
+            thread = newVirtualThread(this, "FWTInputThread");
+        if (thread == null) {
+            thread = new Thread(this, "FWTInputThread");
+            thread.setDaemon(true);
+        }
+        inputThread = thread;
+        thread.start();
     }
 
-    /** Stops the FWTInputThread. */
+    /** Stops the FWTInputThread and waits briefly for it to finish its current batch. */
     private void stopInputThread() {
+        Thread thread;
+        synchronized (this) {
+            thread = inputThread;
+            inputThread = null;
+        }
         stopInputThread = true;
-        inputThread = null;
+        if (thread == null)
+            return;
+
+        // Wake the thread if waiting for events (a full queue means it is not waiting, and sees the flag after its batch)
+        inputEvents.offer(STOP_EVENT);
+        if (thread != Thread.currentThread()) {
+            try {
+                thread.join(500);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive())
+                thread.interrupt();
+        }
+    }
+
+    /** Returns a new (unstarted) virtual thread, or null if not supported by this Java runtime. */
+    static Thread newVirtualThread(Runnable runnable, String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class).invoke(builder, name);
+            return (Thread) builderClass.getMethod("unstarted", Runnable.class).invoke(builder, runnable);
+        } catch (Exception ex) {
+            if (DEBUG_MODE)
+                FWTController.log("FWTWindowManager: Virtual threads not available, using platform thread.");
+            return null;
+        }
     }
 
 
     @Override
     public void run() {
-        // Create Queue
-        inputEvents = new LinkedBlockingQueue<FWTInputEvent>();
+        ArrayList<FWTInputEvent> batch = new ArrayList<FWTInputEvent>(INPUT_BATCH_SIZE);
 
         // WHILE not stopping
         while (!stopInputThread) {
-            // IF events in queue
-            if (!inputEvents.isEmpty()) {
-                // Process event
-                FWTInputEvent currentEvent = inputEvents.poll();
-                this.processInputEvent(currentEvent);
+            try {
+                // Wait for events, then take any others already queued
+                batch.add(inputEvents.take());
+                inputEvents.drainTo(batch, INPUT_BATCH_SIZE - 1);
+                refillInputEvents();
+            } catch (InterruptedException ex) {
+                break;
             }
-            // Yield Thread
-            Thread.yield();
+
+            // Process events (released unprocessed once stopping)
+            for (int ee = 0; ee < batch.size(); ee++) {
+                FWTInputEvent currentEvent = batch.get(ee);
+                if (currentEvent != STOP_EVENT) {
+                    if (!stopInputThread)
+                        this.processInputEvent(currentEvent);
+                    eventPool.release(currentEvent);
+                }
+            }
+            batch.clear();
         }
 
         // Clear Queue
-        inputEvents.clear();
-        inputEvents = null;
+        FWTInputEvent event;
+        while ((event = inputEvents.poll()) != null)
+            if (event != STOP_EVENT)
+                eventPool.release(event);
+        synchronized (overflowEvents) {
+            while ((event = overflowEvents.poll()) != null)
+                eventPool.release(event);
+        }
     }
 
 
@@ -861,6 +1205,14 @@ public class FWTWindowManager implements Runnable {
 
     /** Processes the given FWTInputEvent by parsing it through to the proper component triggers. */
     public void processInputEvent(FWTInputEvent event) {
+        // Catch use of events already returned to their pool
+        if (event.isReleased()) {
+            FWTController.error("FWTWindowManager: Processing released input event: " + event.type);
+            if (DEBUG_MODE)
+                new IllegalStateException("Use of released FWTInputEvent").printStackTrace();
+            return;
+        }
+        FWTProfiler.countInputEvent();
         switch (event.type) {
             case MOUSE_MOVED: {
                 FWTTouchEvent tEvent = (FWTTouchEvent) event;
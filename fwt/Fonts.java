@@ -3,6 +3,7 @@ package com.arboreantears.fwt;
 import java.util.ArrayList;
 import java.util.HashMap;
 
+import com.arboreantears.fwt.events.FWTTask;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -23,6 +24,9 @@ public class Fonts
 
 	public static HashMap<String,BitmapFont> fonts;
 
+	/** Lock for font access, as fonts may be requested off the OpenGL thread. */
+	static final Object fontLock = new Object();
+
 	/** FWT standard font filename. */
 	public static String standardFont;
 	/** FWT title font filename. */
@@ -39,23 +43,59 @@ public class Fonts
 		{return getFont(titleFont,size);}
 
 
-	/** Returns the Bitmap font with the given name and size. */
-	public static BitmapFont getFont(String fontName, int size)
+	/** Returns the Bitmap font with the given name and size. 
+	 * <br> Missing fonts are generated on the OpenGL thread, so this can be called from any thread. Throws an
+	 * IllegalStateException if the OpenGL thread does not generate it (see FWTController.runOnOpenGLThread). */
+	public static BitmapFont getFont(final String fontName, final int size)
 		{
+			String key = fontName+"_"+Integer.toString(size);
+
 			// IF exists, return font
-			if (fonts.containsKey(fontName+"_"+Integer.toString(size)))
-				return fonts.get(fontName+"_"+Integer.toString(size));
-			else // ELSE generate font
+			synchronized (fontLock)
+				{
+					BitmapFont font = fonts.get(key);
+					if (font != null) return font;
+				}
+
+			// IF not on OpenGL thread, generate font there
+			if (!FWTController.isOpenGLThread())
+				{
+					final BitmapFont[] result = new BitmapFont[1];
+					boolean processed = false;
+					try {
+						processed = FWTController.runOnOpenGLThread(new FWTTask()
+							{
+								@Override
+								public void process() {result[0] = createFont(fontName, size);}
+							});
+					} catch (InterruptedException ex) {Thread.currentThread().interrupt();}
+					// Fail the caller's creation here rather than later in layout or drawing
+					if (!processed)
+						throw new IllegalStateException("Fonts: Font not generated on the OpenGL thread: "+fontName+" : "+size+" pnt.");
+					return result[0];
+				}
+
+			return createFont(fontName, size);
+		}
+
+
+	/** Generates and stores the missing Bitmap font with the given name and size. Requires OpenGL context. */
+	static BitmapFont createFont(String fontName, int size)
+		{
+			String key = fontName+"_"+Integer.toString(size);
+			synchronized (fontLock)
 				{
-					BitmapFont font = generateBitmapFont(fontName, size);
+					BitmapFont font = fonts.get(key);
+					if (font != null) return font;
+					font = generateBitmapFont(fontName, size);
 					if (font != null)
 						{
-							fonts.put(fontName+"_"+Integer.toString(size), font);
+							fonts.put(key, font);
 							return font;
 						}
-					FWTController.error("Fonts: Cannot generate missing font: "+fontName+" : "+size+" pnt.");
-					return null;
 				}
+			FWTController.error("Fonts: Cannot generate missing font: "+fontName+" : "+size+" pnt.");
+			return null;
 		}
 
 
@@ -1,8 +1,17 @@
 package com.arboreantears.fwt;
 
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.Rectangle;
 
 /** Renders UI assets using the libGDX SpriteBatch implementation. */
 public class UIRenderer
@@ -15,25 +24,133 @@ public class UIRenderer
 	public static int THIN_BORDER_WIDTH = 20;
 
 
+	// Batching
+	//====================================================
+
+	/** 'True' to keep the sprite-batch open across components during a UI render pass. It is then only flushed
+	 * when the texture, blend function, drawing context or clipping changes.
+	 * <br> Custom drawing must use {@link #begin(SpriteBatch)} and {@link #end(SpriteBatch)} instead of the batch's own methods,
+	 * and {@link #beginShapes(ShapeRenderer, ShapeType)} to draw with a ShapeRenderer. */
+	public static boolean BATCHED_RENDERING = true;
+
+	/** 'True' while a UI render pass is active. */
+	private static boolean inPass;
+	/** Batch render call total at the start of the current pass. */
+	private static int passStartCalls;
+	/** Number of draw calls of the last UI render pass. */
+	private static int drawCalls;
+	/** Returns the number of draw calls (batch flushes) of the last UI render pass. */
+	public static int getDrawCalls() {return drawCalls;}
+
+
+	/** Starts a UI render pass, keeping the sprite-batch open until {@link #endPass(SpriteBatch)}. */
+	public static void beginPass(SpriteBatch spriteBatch)
+		{
+			inPass = BATCHED_RENDERING;
+			passStartCalls = spriteBatch.totalRenderCalls;
+		}
+
+	/** Ends the current UI render pass, flushing the sprite-batch. */
+	public static void endPass(SpriteBatch spriteBatch)
+		{
+			inPass = false;
+			if (spriteBatch.isDrawing()) spriteBatch.end();
+			setDefaultBlending(spriteBatch);
+			drawCalls = spriteBatch.totalRenderCalls - passStartCalls;
+		}
+
+	/** Begins drawing with the sprite-batch, unless already drawing in the current pass. */
+	public static void begin(SpriteBatch spriteBatch)
+		{
+			if (!spriteBatch.isDrawing()) spriteBatch.begin();
+		}
+
+	/** Ends drawing with the sprite-batch. Within a render pass the batch is kept open for the next draw instead. */
+	public static void end(SpriteBatch spriteBatch)
+		{
+			if (!inPass && spriteBatch.isDrawing()) spriteBatch.end();
+		}
+
+	/** Draws any pending sprites before a change of OpenGL state (e.g. frame buffer, viewport or clipping). */
+	public static void flush(SpriteBatch spriteBatch)
+		{
+			if (spriteBatch.isDrawing()) spriteBatch.flush();
+		}
+
+	/** Sets the blending used to composite back buffers: colors blend over, alpha accumulates. Only flushes if the blending changes. */
+	public static void setBufferBlending(SpriteBatch spriteBatch)
+		{
+			if (spriteBatch.getBlendSrcFunc() == -1) return;
+			spriteBatch.setBlendFunction(-1, -1);
+			Gdx.gl20.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE);
+		}
+
+	/** Restores the default sprite-batch blending. Only flushes if the blending changes. */
+	public static void setDefaultBlending(SpriteBatch spriteBatch)
+		{
+			spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		}
+
+	/** Ends drawing with the sprite-batch before other renderers (e.g. ShapeRenderer) are used. The next {@link #begin(SpriteBatch)} resumes it. */
+	public static void suspendBatch(SpriteBatch spriteBatch)
+		{
+			if (spriteBatch.isDrawing()) spriteBatch.end();
+		}
+
+	/** Begins drawing shapes in the current drawing context: suspends the sprite-batch and updates the ShapeRenderer projection if required. */
+	public static void beginShapes(ShapeRenderer shapeRenderer, ShapeType type)
+		{
+			suspendBatch(FWTController.getSpriteBatch());
+			FWTUIFrameBufferController.applyShapeProjection();
+			shapeRenderer.begin(type);
+		}
+
+
+
+
+
+
 	// Borders
 	//====================================================
 
 	/** Draws a thin border box using the "border" nine-patch at the given location.  MUST begin spritebatch before this method! */
-	public static void drawThinBorder(long ID, SpriteBatch spriteBatch, Color color, float x, float y, float width, float height)
+	public static void drawThinBorder(SpriteBatch spriteBatch, Color color, float x, float y, float width, float height)
 		{
-			spriteBatch.setColor(color);
-			FWTImageManager.getBorderNinePatch(ID, "border", (int)width, (int)height).draw(spriteBatch, x, y, width, height);
-			spriteBatch.setColor(Color.WHITE);
+			drawBorder(spriteBatch, "border", color, x, y, width, height);
 		}
 
 	/** Draws a thick border box using the "borderthick" nine-patch at the given location.  MUST begin spritebatch before this method! */
-	public static void drawThickBorder(long ID, SpriteBatch spriteBatch, Color color, float x, float y, float width, float height)
+	public static void drawThickBorder(SpriteBatch spriteBatch, Color color, float x, float y, float width, float height)
 		{
+			drawBorder(spriteBatch, "borderthick", color, x, y, width, height);
+		}
+
+	/** Draws the given border nine-patch at the given location.  MUST begin spritebatch before this method! */
+	private static void drawBorder(SpriteBatch spriteBatch, String textureID, Color color, float x, float y, float width, float height)
+		{
+			NinePatch ninePatch = FWTImageManager.getNinePatch(textureID);
+			if (ninePatch == null) return;
 			spriteBatch.setColor(color);
-			FWTImageManager.getBorderNinePatch(ID, "borderthick", (int)width, (int)height).draw(spriteBatch, x, y, width, height);
+			ninePatch.draw(spriteBatch, x, y, width, height);
 			spriteBatch.setColor(Color.WHITE);
 		}
 
+	/** Draws a thin border box. The ID is ignored.
+	 * @deprecated borders are shared by texture, use {@link #drawThinBorder(SpriteBatch, Color, float, float, float, float)}. */
+	@Deprecated
+	public static void drawThinBorder(long ID, SpriteBatch spriteBatch, Color color, float x, float y, float width, float height)
+		{
+			drawThinBorder(spriteBatch, color, x, y, width, height);
+		}
+
+	/** Draws a thick border box. The ID is ignored.
+	 * @deprecated borders are shared by texture, use {@link #drawThickBorder(SpriteBatch, Color, float, float, float, float)}. */
+	@Deprecated
+	public static void drawThickBorder(long ID, SpriteBatch spriteBatch, Color color, float x, float y, float width, float height)
+		{
+			drawThickBorder(spriteBatch, color, x, y, width, height);
+		}
+
 
 
 
@@ -46,7 +163,7 @@ public class UIRenderer
 	/** Draws a rectangle at the given location.  MUST begin sprite-batch before this method! */
 	public static void drawRectangle(SpriteBatch spriteBatch, Color color, float x, float y, float width, float height)
 		{
-			AtlasRegion fillReg = FWTImageManager.getUIAtlas().findRegion("fill");
+			AtlasRegion fillReg = FWTImageManager.getFillRegion();
 			if (fillReg != null)
 				{
 					spriteBatch.setColor(color);
@@ -92,17 +209,13 @@ public class UIRenderer
 	/** Returns 'true' if the given imageID is currently loaded. */
 	public static boolean hasUIImage(String imageID)
 		{
-			String iID = imageID;
-			if (imageID.substring(imageID.length()-2, imageID.length()).equals(".9"))
-				iID = imageID.substring(0, imageID.length()-2);
-
-			AtlasRegion uiRegion = FWTImageManager.getUIAtlas().findRegion(iID);
-			if (uiRegion == null)
-				uiRegion = FWTImageManager.getUIAtlas().findRegion(iID);
+			return FWTImageManager.getUIImage(imageID).isLoaded();
+		}
 
-			if (uiRegion == null)
-				return false;
-			return true;				
+	/** Returns 'true' if the given image is currently loaded (false if null). */
+	public static boolean hasUIImage(FWTUIImage image)
+		{
+			return image != null && image.isLoaded();
 		}
 
 
@@ -128,7 +241,16 @@ public class UIRenderer
 	 * <br> MUST begin sprite batch before this method. */
 	public static boolean drawUIImage(SpriteBatch spriteBatch, long id, String imageName, int gX, int gY, int width, int height, boolean scaled, boolean tiled)
 		{
-			return drawUIImage(spriteBatch, id, imageName, gX, gY, width, height, scaled, tiled, false, false);
+			return drawUIImage(spriteBatch, id, FWTImageManager.getUIImage(imageName), gX, gY, width, height, scaled, tiled, false, false);
+		}
+
+	/** Draws the given pre-resolved UI image with the given parameters .  Returns true if successful.
+	 * <br> Scaled - Stretches the image to fill the given width/height, otherwise these are ignored. 
+	 * <br> Tiled - Tiles the image in the given space. 
+	 * <br> MUST begin sprite batch before this method. */
+	public static boolean drawUIImage(SpriteBatch spriteBatch, long id, FWTUIImage image, int gX, int gY, int width, int height, boolean scaled, boolean tiled)
+		{
+			return drawUIImage(spriteBatch, id, image, gX, gY, width, height, scaled, tiled, false, false);
 		}
 
 
@@ -143,123 +265,50 @@ public class UIRenderer
 	 * <br> MUST begin sprite batch before this method. */
 	public static boolean drawUIImage(SpriteBatch spriteBatch, long id, String imageName, int gX, int gY, int width, int height, 
 			boolean scaled, boolean tiled, boolean flipX, boolean flipY)
+		{
+			return drawUIImage(spriteBatch, id, FWTImageManager.getUIImage(imageName), gX, gY, width, height, scaled, tiled, flipX, flipY);
+		}
+
+
+	/** Draws the given pre-resolved UI image with the given parameters.  Returns true if successful.
+	 * <br> Scaled - Stretches the image to fill the given width/height, otherwise these are ignored. 
+	 * <br> Tiled - Tiles the image in the given space. 
+	 * <br> FlipX/Y - Flips the image. 
+	 * <br> MUST begin sprite batch before this method. */
+	public static boolean drawUIImage(SpriteBatch spriteBatch, long id, FWTUIImage image, int gX, int gY, int width, int height, 
+			boolean scaled, boolean tiled, boolean flipX, boolean flipY)
 		{
 			try{
-				boolean isNinePatch = imageName.substring(imageName.length()-2, imageName.length()).equals(".9");
+				AtlasRegion uiRegion = image.getRegion();
 
 				// IF Nine Patch
-				if (isNinePatch)
+				if (image.isNinePatch())
 					{
 						if (scaled)	
-							FWTImageManager.getNinePatch(id, imageName.substring(0, imageName.length()-2), width, height).draw(spriteBatch, gX, gY, width, height);
+							image.getNinePatch().draw(spriteBatch, gX, gY, width, height);
 						else // tiled
 							{
-								AtlasRegion uiRegion = FWTImageManager.getUIAtlas().findRegion(imageName.substring(0, imageName.length()-2));
-								if (uiRegion == null)
-									uiRegion = FWTImageManager.getUIAtlas().findRegion(imageName.substring(0, imageName.length()-2));
-
-								if (uiRegion.findValue("splits") != null && uiRegion.findValue("pads") != null)
+								if (image.getSplits() != null)
 									{
-										// L / R / T / B
-										int[] splits = uiRegion.findValue("splits");
-										int regX = uiRegion.getRegionX();
-										int regY = uiRegion.getRegionY();
-										int regWidth = uiRegion.getRegionWidth();
-										int regHeight = uiRegion.getRegionHeight();
-
-										// Width of texture mid-section
-										int midWidth = regWidth - splits[0] - splits[1];
-										int midHeight = regHeight - splits[2] - splits[3];
-										int numX = (int)Math.ceil((double)width / (double)midWidth);
-										int numY = (int)Math.ceil((double)height / (double)midHeight);
-
-										// Draw Middle
-										//-----------------------
-										// Starting positions
-										int X = gX+splits[0];
-										int Y = gY+splits[3];
-										for (int xx=0; xx<numX; xx++)
-											{
-												for (int yy=0; yy<numY; yy++)
-													{
-														spriteBatch.draw(uiRegion.getTexture(),X,Y,midWidth,midHeight,
-																regX+splits[0], regY+splits[2], midWidth, midHeight,  false,false);
-														Y = Y + midHeight;
-													}
-												X = X + midWidth;
-												Y = gY+splits[3];
-											}
-
-
-										// Draw Left
-										Y = gY+splits[3];
-										for (int yy=0; yy<numY; yy++)
-											{
-												spriteBatch.draw(uiRegion.getTexture(),gX,Y,splits[0],midHeight,
-														regX, regY+regHeight-splits[3]-midHeight,splits[0], midHeight,  false,false);
-												Y = Y + midHeight;
-											}
-
-
-										// Draw Right
-										Y = gY+splits[3];
-										for (int yy=0; yy<numY; yy++)
-											{
-												spriteBatch.draw(uiRegion.getTexture(),gX+width-splits[1],Y,splits[1],midHeight,
-														regX+regWidth-splits[1], regY+splits[2],splits[1], midHeight,  false,false);
-												Y = Y + midHeight;
-											}
-
-										// Draw Top
-										X = gX+splits[0];
-										for (int xx=0; xx<numY; xx++)
-											{
-												spriteBatch.draw(uiRegion.getTexture(),X,gY+height-splits[2],midWidth,splits[2],
-														regX+splits[0], regY, midWidth, splits[2],  false,false);
-												X = X + midWidth;
-											}
-
-										// Draw Bottom
-										X = gX+splits[0];
-										for (int xx=0; xx<numY; xx++)
+										TiledGeometry geo = image.getTiledGeometry(width, height, false, false);
+										if (geo == null)
 											{
-												spriteBatch.draw(uiRegion.getTexture(),X, gY, midWidth, splits[3],
-														regX+splits[0], regY+regHeight-splits[3], midWidth, splits[3],  false,false);
-												X = X + midWidth;
+												geo = new TiledGeometry(gX, gY);
+												buildNinePatchTiles(geo, uiRegion, image.getSplits(), gX, gY, width, height);
+												image.putTiledGeometry(width, height, false, false, geo);
 											}
-
-
-
-										// Top-Left
-										spriteBatch.draw(uiRegion.getTexture(),gX,gY+height-splits[2],splits[0], splits[2],
-												regX, regY, splits[0], splits[2],false,false);	
-
-										// Top-Right
-										spriteBatch.draw(uiRegion.getTexture(),gX+width-splits[1],gY+height-splits[2],splits[1], splits[2],
-												regX+regWidth-splits[1],regY, splits[1], splits[2],false,false);	
-
-										// Bottom-Left
-										spriteBatch.draw(uiRegion.getTexture(),gX,gY,splits[0], splits[3],
-												regX,regY+regHeight-splits[3], splits[0], splits[3],false,false);	
-
-										// Botom-Right
-										spriteBatch.draw(uiRegion.getTexture(),gX+width-splits[1],gY,splits[1], splits[3],
-												regX+regWidth-splits[1],regY+regHeight-splits[3], splits[1], splits[3],false,false);	
+										geo.draw(spriteBatch, uiRegion.getTexture(), gX, gY);
 
 
 
 									}
-								else {FWTController.error("Error: Couldn't draw UI image: '"+imageName+"'. No splits defined.");return false;}
+								else {FWTController.error("Error: Couldn't draw UI image: '"+image+"'. No splits defined.");return false;}
 							}
 					}
 
 				// ELSE Not a NinePatch
 				else
 					{
-						AtlasRegion uiRegion = FWTImageManager.getUIAtlas().findRegion(imageName);
-						if (uiRegion == null)
-							uiRegion = FWTImageManager.getUIAtlas().findRegion(imageName);
-
 						// Scaled rendering (fill space)
 						if (scaled)
 							{
@@ -272,50 +321,14 @@ public class UIRenderer
 						// Tiled rendering
 						else if (tiled)
 							{
-								int numX = (int) Math.floor((float)width/(float)uiRegion.getRegionWidth());
-								int numY = (int) Math.floor((float)height/(float)uiRegion.getRegionHeight());
-
-								int leftWidth = width;
-								for (int xx=0; xx < numX; xx++)
+								TiledGeometry geo = image.getTiledGeometry(width, height, flipX, flipY);
+								if (geo == null)
 									{
-										int leftHeight = height;
-										for (int yy=0; yy < numY; yy++)
-											{
-												spriteBatch.draw(uiRegion.getTexture(),
-														gX+(uiRegion.getRegionWidth()*xx) ,gY+(uiRegion.getRegionHeight()*yy) ,uiRegion.getRegionWidth(),uiRegion.getRegionHeight(),
-														uiRegion.getRegionX(), uiRegion.getRegionY(), uiRegion.getRegionWidth(), uiRegion.getRegionHeight(), 
-														flipX, flipY);	
-												leftHeight = leftHeight - uiRegion.getRegionHeight();
-											}
-										if (leftHeight > 0)
-											{
-												spriteBatch.draw(uiRegion.getTexture(),
-														gX+(uiRegion.getRegionWidth()*xx) ,gY+(uiRegion.getRegionHeight()*numY) , uiRegion.getRegionWidth(), leftHeight,
-														uiRegion.getRegionX(), uiRegion.getRegionY(), uiRegion.getRegionWidth(), leftHeight, 
-														flipX, flipY);		
-											}
-										leftWidth = leftWidth - uiRegion.getRegionWidth();
-									}
-
-								if (leftWidth > 0)
-									{
-										int leftHeight = height;
-										for (int yy=0; yy < numY; yy++)
-											{
-												spriteBatch.draw(uiRegion.getTexture(),
-														gX+(uiRegion.getRegionWidth()*numX) ,gY+(uiRegion.getRegionHeight()*yy) ,leftWidth,uiRegion.getRegionHeight(),
-														uiRegion.getRegionX(), uiRegion.getRegionY(), leftWidth, uiRegion.getRegionHeight(), 
-														flipX, flipY);	
-												leftHeight = leftHeight - uiRegion.getRegionHeight();
-											}
-										if (leftHeight > 0)
-											{
-												spriteBatch.draw(uiRegion.getTexture(),
-														gX+(uiRegion.getRegionWidth()*numX) ,gY+(uiRegion.getRegionHeight()*numY) , leftWidth, leftHeight,
-														uiRegion.getRegionX(), uiRegion.getRegionY(), leftWidth, leftHeight, 
-														flipX, flipY);		
-											}
+										geo = new TiledGeometry(gX, gY);
+										buildTiles(geo, uiRegion, gX, gY, width, height, flipX, flipY);
+										image.putTiledGeometry(width, height, flipX, flipY, geo);
 									}
+								geo.draw(spriteBatch, uiRegion.getTexture(), gX, gY);
 
 							}
 
@@ -328,7 +341,7 @@ public class UIRenderer
 										flipX, flipY);	
 							}
 					}
-			}catch (Exception ex) {FWTController.error("Error: Couldn't draw UI image: '"+imageName+"'."); return false;}
+			}catch (Exception ex) {FWTController.error("Error: Couldn't draw UI image: '"+image+"'."); return false;}
 
 			return true;
 		}
@@ -338,6 +351,240 @@ public class UIRenderer
 
 
 
+	/** Draws the given pre-resolved UI image over an area of the given size (at 0|0), as drawUIImage with tiling unless scaled.
+	 * <br> Tiled images are only drawn over the given region (null for the whole area), widened to whole tiles so the
+	 * tiling stays aligned with the area: large scrolled areas only submit the tiles being redrawn.
+	 * <br> MUST begin sprite batch before this method. */
+	public static boolean drawAreaUIImage(SpriteBatch spriteBatch, long id, FWTUIImage image, int width, int height, boolean scaled, Rectangle region)
+		{
+			if (scaled || region == null || image.isNinePatch() || !image.isLoaded())
+				return drawUIImage(spriteBatch, id, image, 0, 0, width, height, scaled, !scaled);
+
+			int tileWidth = Math.max(image.getRegion().getRegionWidth(), 1);
+			int tileHeight = Math.max(image.getRegion().getRegionHeight(), 1);
+			int x1 = Math.max((int)Math.floor(region.x / tileWidth) * tileWidth, 0);
+			int y1 = Math.max((int)Math.floor(region.y / tileHeight) * tileHeight, 0);
+			int x2 = Math.min((int)Math.ceil((region.x + region.width) / tileWidth) * tileWidth, width);
+			int y2 = Math.min((int)Math.ceil((region.y + region.height) / tileHeight) * tileHeight, height);
+			if (x2 <= x1 || y2 <= y1) return true;
+			return drawUIImage(spriteBatch, id, image, x1, y1, x2 - x1, y2 - y1, false, true);
+		}
+
+
+
+
+
+	// Tiled Geometry
+	//====================================================
+
+
+	/** Cached vertices of a tiled image at one size, drawn in a single batch call. */
+	public static final class TiledGeometry
+	{
+		/** Sprite vertices (x, y, color, u, v per corner). */
+		float[] vertices = new float[20*16];
+		/** Number of vertex values used. */
+		int count;
+		/** Position and color the vertices are currently set for. */
+		float x, y, color;
+
+		TiledGeometry(float x, float y) {this.x = x; this.y = y;}
+
+		/** Adds a tile, as SpriteBatch.draw(texture, x, y, width, height, srcX, srcY, srcWidth, srcHeight, flipX, flipY). */
+		void add(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY)
+		{
+			if (count + 20 > vertices.length)
+				vertices = Arrays.copyOf(vertices, vertices.length*2);
+
+			float invTexWidth = 1f / texture.getWidth();
+			float invTexHeight = 1f / texture.getHeight();
+			float u = srcX * invTexWidth;
+			float v = (srcY + srcHeight) * invTexHeight;
+			float u2 = (srcX + srcWidth) * invTexWidth;
+			float v2 = srcY * invTexHeight;
+			if (flipX) {float tmp = u; u = u2; u2 = tmp;}
+			if (flipY) {float tmp = v; v = v2; v2 = tmp;}
+			float x2 = x + width;
+			float y2 = y + height;
+
+			float[] vert = vertices;
+			int ii = count;
+			vert[ii++] = x;  vert[ii++] = y;  vert[ii++] = color; vert[ii++] = u;  vert[ii++] = v;
+			vert[ii++] = x;  vert[ii++] = y2; vert[ii++] = color; vert[ii++] = u;  vert[ii++] = v2;
+			vert[ii++] = x2; vert[ii++] = y2; vert[ii++] = color; vert[ii++] = u2; vert[ii++] = v2;
+			vert[ii++] = x2; vert[ii++] = y;  vert[ii++] = color; vert[ii++] = u2; vert[ii++] = v;
+			count = ii;
+		}
+
+		/** Draws all tiles at the given position with the batch's current color. */
+		void draw(SpriteBatch spriteBatch, Texture texture, float x, float y)
+		{
+			float color = spriteBatch.getPackedColor();
+			// Move and recolor in place only when drawn differently than last time
+			if (x != this.x || y != this.y || color != this.color)
+				{
+					float dx = x - this.x;
+					float dy = y - this.y;
+					float[] vert = vertices;
+					for (int ii = 0; ii < count; ii += 5)
+						{
+							vert[ii] += dx;
+							vert[ii+1] += dy;
+							vert[ii+2] = color;
+						}
+					this.x = x;
+					this.y = y;
+					this.color = color;
+				}
+			spriteBatch.draw(texture, vertices, 0, count);
+		}
+	}
+
+
+	/** Adds the tiles of a tiled nine-patch region: middle, edges and corners. */
+	static void buildNinePatchTiles(TiledGeometry geo, AtlasRegion uiRegion, int[] splits, int gX, int gY, int width, int height)
+		{
+			// L / R / T / B
+			int regX = uiRegion.getRegionX();
+			int regY = uiRegion.getRegionY();
+			int regWidth = uiRegion.getRegionWidth();
+			int regHeight = uiRegion.getRegionHeight();
+
+			// Width of texture mid-section
+			int midWidth = regWidth - splits[0] - splits[1];
+			int midHeight = regHeight - splits[2] - splits[3];
+			int numX = (int)Math.ceil((double)width / (double)midWidth);
+			int numY = (int)Math.ceil((double)height / (double)midHeight);
+
+			// Draw Middle
+			//-----------------------
+			// Starting positions
+			int X = gX+splits[0];
+			int Y = gY+splits[3];
+			for (int xx=0; xx<numX; xx++)
+				{
+					for (int yy=0; yy<numY; yy++)
+						{
+							geo.add(uiRegion.getTexture(),X,Y,midWidth,midHeight,
+									regX+splits[0], regY+splits[2], midWidth, midHeight,  false,false);
+							Y = Y + midHeight;
+						}
+					X = X + midWidth;
+					Y = gY+splits[3];
+				}
+
+
+			// Draw Left
+			Y = gY+splits[3];
+			for (int yy=0; yy<numY; yy++)
+				{
+					geo.add(uiRegion.getTexture(),gX,Y,splits[0],midHeight,
+							regX, regY+regHeight-splits[3]-midHeight,splits[0], midHeight,  false,false);
+					Y = Y + midHeight;
+				}
+
+
+			// Draw Right
+			Y = gY+splits[3];
+			for (int yy=0; yy<numY; yy++)
+				{
+					geo.add(uiRegion.getTexture(),gX+width-splits[1],Y,splits[1],midHeight,
+							regX+regWidth-splits[1], regY+splits[2],splits[1], midHeight,  false,false);
+					Y = Y + midHeight;
+				}
+
+			// Draw Top
+			X = gX+splits[0];
+			for (int xx=0; xx<numX; xx++)
+				{
+					geo.add(uiRegion.getTexture(),X,gY+height-splits[2],midWidth,splits[2],
+							regX+splits[0], regY, midWidth, splits[2],  false,false);
+					X = X + midWidth;
+				}
+
+			// Draw Bottom
+			X = gX+splits[0];
+			for (int xx=0; xx<numX; xx++)
+				{
+					geo.add(uiRegion.getTexture(),X, gY, midWidth, splits[3],
+							regX+splits[0], regY+regHeight-splits[3], midWidth, splits[3],  false,false);
+					X = X + midWidth;
+				}
+
+
+
+			// Top-Left
+			geo.add(uiRegion.getTexture(),gX,gY+height-splits[2],splits[0], splits[2],
+					regX, regY, splits[0], splits[2],false,false);	
+
+			// Top-Right
+			geo.add(uiRegion.getTexture(),gX+width-splits[1],gY+height-splits[2],splits[1], splits[2],
+					regX+regWidth-splits[1],regY, splits[1], splits[2],false,false);	
+
+			// Bottom-Left
+			geo.add(uiRegion.getTexture(),gX,gY,splits[0], splits[3],
+					regX,regY+regHeight-splits[3], splits[0], splits[3],false,false);	
+
+			// Botom-Right
+			geo.add(uiRegion.getTexture(),gX+width-splits[1],gY,splits[1], splits[3],
+					regX+regWidth-splits[1],regY+regHeight-splits[3], splits[1], splits[3],false,false);
+		}
+
+
+	/** Adds the tiles of a tiled region, the last row and column cut to the given size. */
+	static void buildTiles(TiledGeometry geo, AtlasRegion uiRegion, int gX, int gY, int width, int height, boolean flipX, boolean flipY)
+		{
+			int numX = (int) Math.floor((float)width/(float)uiRegion.getRegionWidth());
+			int numY = (int) Math.floor((float)height/(float)uiRegion.getRegionHeight());
+
+			int leftWidth = width;
+			for (int xx=0; xx < numX; xx++)
+				{
+					int leftHeight = height;
+					for (int yy=0; yy < numY; yy++)
+						{
+							geo.add(uiRegion.getTexture(),
+									gX+(uiRegion.getRegionWidth()*xx) ,gY+(uiRegion.getRegionHeight()*yy) ,uiRegion.getRegionWidth(),uiRegion.getRegionHeight(),
+									uiRegion.getRegionX(), uiRegion.getRegionY(), uiRegion.getRegionWidth(), uiRegion.getRegionHeight(), 
+									flipX, flipY);	
+							leftHeight = leftHeight - uiRegion.getRegionHeight();
+						}
+					if (leftHeight > 0)
+						{
+							geo.add(uiRegion.getTexture(),
+									gX+(uiRegion.getRegionWidth()*xx) ,gY+(uiRegion.getRegionHeight()*numY) , uiRegion.getRegionWidth(), leftHeight,
+									uiRegion.getRegionX(), uiRegion.getRegionY(), uiRegion.getRegionWidth(), leftHeight, 
+									flipX, flipY);		
+						}
+					leftWidth = leftWidth - uiRegion.getRegionWidth();
+				}
+
+			if (leftWidth > 0)
+				{
+					int leftHeight = height;
+					for (int yy=0; yy < numY; yy++)
+						{
+							geo.add(uiRegion.getTexture(),
+									gX+(uiRegion.getRegionWidth()*numX) ,gY+(uiRegion.getRegionHeight()*yy) ,leftWidth,uiRegion.getRegionHeight(),
+									uiRegion.getRegionX(), uiRegion.getRegionY(), leftWidth, uiRegion.getRegionHeight(), 
+									flipX, flipY);	
+							leftHeight = leftHeight - uiRegion.getRegionHeight();
+						}
+					if (leftHeight > 0)
+						{
+							geo.add(uiRegion.getTexture(),
+									gX+(uiRegion.getRegionWidth()*numX) ,gY+(uiRegion.getRegionHeight()*numY) , leftWidth, leftHeight,
+									uiRegion.getRegionX(), uiRegion.getRegionY(), leftWidth, leftHeight, 
+									flipX, flipY);		
+						}
+				}
+		}
+
+
+
+
+
+
 	/** Draws the image of the given UI image with the given parameters.  Returns true if successful.
 	 * <br> Does NOT support NinePatch or tiled images.
 	 * <br> FlipX/Y - Flips the image. 
@@ -348,9 +595,7 @@ public class UIRenderer
 		{
 			try{
 
-				AtlasRegion uiRegion = FWTImageManager.getUIAtlas().findRegion(imageName);
-				if (uiRegion == null)
-					uiRegion = FWTImageManager.getUIAtlas().findRegion(imageName);
+				AtlasRegion uiRegion = FWTImageManager.findRegion(imageName);
 
 				spriteBatch.draw(uiRegion.getTexture(),
 						(float)gX,(float)gY,(float)width,(float)height,
@@ -376,9 +621,7 @@ public class UIRenderer
 	public static boolean drawUIImage(SpriteBatch spriteBatch, long id, String imageName, int gX, int gY, int width, int height, float rotation)
 		{
 			try{
-				AtlasRegion uiRegion = FWTImageManager.getUIAtlas().findRegion(imageName);
-				if (uiRegion == null)
-					uiRegion = FWTImageManager.getUIAtlas().findRegion(imageName);
+				AtlasRegion uiRegion = FWTImageManager.findRegion(imageName);
 
 				spriteBatch.draw(uiRegion, gX, gY, width/2f, height/2f, width, height, 1.0f, 1.0f, rotation);
 			}catch (Exception ex) {FWTController.error("Error: Couldn't draw UI image: '"+imageName+"'."); return false;}
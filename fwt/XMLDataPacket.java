@@ -27,6 +27,35 @@ public class XMLDataPacket
 	public void setMap(HashMap<String,String> map) {data = map;}
 
 
+	/** Pre-parsed values (e.g. from a compiled UI layout), keyed by data key. Null if none. */
+	HashMap<String,ParsedValue> parsed = null;
+
+	/** A pre-parsed value and the String it was parsed from. */
+	static class ParsedValue
+	{
+		/** The String this value was parsed from. */
+		final String text;
+		/** The parsed value. */
+		final Object value;
+
+		ParsedValue(String text, Object value)
+		{
+			this.text = text;
+			this.value = value;
+		}
+	}
+
+	/** Returns the pre-parsed value for the given key, or null if none or the String value has since changed. */
+	Object getParsed(String key, String val)
+		{
+			if (parsed == null || val == null) return null;
+			ParsedValue pv = parsed.get(key);
+			if (pv != null && (pv.text == val || pv.text.equals(val)))
+				return pv.value;
+			return null;
+		}
+
+
 
 
 	// CONSTRUCTOR
@@ -66,6 +95,8 @@ public class XMLDataPacket
 							newData.put(next.getKey(), next.getValue());
 						}
 				}
+			if (parsed != null)
+				newData.parsed = new HashMap<String,ParsedValue>(parsed);
 			return newData;
 		}
 
@@ -83,6 +114,11 @@ public class XMLDataPacket
 							Entry<String,String> next = itr.next();
 							this.put(next.getKey(), next.getValue());
 						}
+					if (pullDataPacket.parsed != null)
+						{
+							if (parsed == null) parsed = new HashMap<String,ParsedValue>();
+							parsed.putAll(pullDataPacket.parsed);
+						}
 				}
 			return this;
 		}
@@ -118,6 +154,17 @@ public class XMLDataPacket
 	/** Puts the boolean value in the data packet. */
 	public void putBoolean(String key, boolean val) {if (data != null) data.put(key, Boolean.toString(val));}
 
+	/** Puts the given String in the data packet along with its already parsed value (Integer, Boolean or Color). */
+	public void putParsed(String key, String val, Object parsedVal)
+		{
+			if (data != null)
+				{
+					data.put(key, val);
+					if (parsed == null) parsed = new HashMap<String,ParsedValue>();
+					parsed.put(key, new ParsedValue(val, parsedVal));
+				}
+		}
+
 	/** Puts the Position value in the data packet. */
 	public void putPos(String key, Position val)
 		{
@@ -222,6 +269,8 @@ public class XMLDataPacket
 			String val = data.get(key);
 			if (val != null)
 				{
+					Object pv = getParsed(key, val);
+					if (pv instanceof Integer) return (Integer) pv;
 					int intVal = -1;
 					try{
 						intVal = Integer.parseInt(val);
@@ -237,6 +286,8 @@ public class XMLDataPacket
 			String val = data.get(key);
 			if (val != null)
 				{
+					Object pv = getParsed(key, val);
+					if (pv instanceof Integer) return (Integer) pv;
 					int intVal = -1;
 					try{
 						intVal = Integer.parseInt(val);
@@ -345,6 +396,8 @@ public class XMLDataPacket
 			String val = data.get(key);
 			if (val != null)
 				{
+					Object pv = getParsed(key, val);
+					if (pv instanceof Boolean) return (Boolean) pv;
 					boolean boolVal = false;
 					try{
 						boolVal = Boolean.parseBoolean(val);
@@ -379,12 +432,15 @@ public class XMLDataPacket
 			return null;
 		}
 
-	/** Returns the Color value for the given key if it exists, otherwise 'null'. */
+	/** Returns the Color value for the given key if it exists, otherwise 'null'.
+	 * <br> Named colors and pre-parsed colors are shared instances: copy the result before modifying it. */
 	public Color getColor(String key)
 		{
 			String val = data.get(key);
 			if (val != null)
 				{
+					Object pv = getParsed(key, val);
+					if (pv instanceof Color) return (Color) pv;
 					StringTokenizer st = new StringTokenizer(val,"|,");
 					int numTokens = st.countTokens();
 					try{
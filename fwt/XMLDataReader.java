@@ -1,10 +1,5 @@
 package com.arboreantears.fwt;
 
-import java.io.File;
-
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
-
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
@@ -18,9 +13,6 @@ public class XMLDataReader extends DefaultHandler
 	//***********************************************************************************************
 	//***********************************************************************************************
 
-	/** 'True' if reader is finished reading a file. */
-	boolean finished = false;
-
 	/** Data packet to return. */
 	XMLDataPacket dataPacket = new XMLDataPacket();
 
@@ -48,28 +40,15 @@ public class XMLDataReader extends DefaultHandler
 	/** Reads an XML data contained in the given file and returns the data packet. */
 	public XMLDataPacket read(String document) throws Exception
 	{
-		// Use the default (non-validating) parser
-		SAXParserFactory factory = SAXParserFactory.newInstance();
-		
 		try{
 			// Parse the input
-			SAXParser saxParser = factory.newSAXParser();
-			saxParser.parse( new File(document), this );
+			XMLThreadParser.parse(document, this);
 		}catch (Exception ex) 
 			{
 				ex.printStackTrace(); 
 				throw new Exception(this.getClass().getSimpleName()+": XML Read Error: "+document+"\n      "+ex.getMessage());
 			}
 
-		// Enter Waiting Loop
-		while(!finished)
-			{
-				try{
-					Thread.sleep(1);
-				}
-				catch (Exception ex) {ex.printStackTrace(); throw new Exception(ex.getLocalizedMessage());}
-			}
-		finished = false;
 
 		// Return constructed packet
 		return dataPacket;
@@ -160,7 +139,6 @@ public class XMLDataReader extends DefaultHandler
 	@Override
 	public void endDocument()
 		{
-			this.finished = true;
 		}
 
 
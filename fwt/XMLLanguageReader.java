@@ -1,12 +1,7 @@
 package com.arboreantears.fwt;
 
-
-import java.io.File;
 import java.util.HashMap;
 
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
-
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
@@ -26,9 +21,6 @@ public class XMLLanguageReader extends DefaultHandler
 	/** Data for all language mappings. */
 	HashMap<String,String> data = new  HashMap<String,String>(); 
 
-	/** 'True' if reader is finished reading a file. */
-	boolean finished = false;
-
 
 
 
@@ -109,7 +101,6 @@ public class XMLLanguageReader extends DefaultHandler
 	@Override
 	public void endDocument()
 		{
-			this.finished = true;
 		}
 
 
@@ -125,31 +116,18 @@ public class XMLLanguageReader extends DefaultHandler
 	/** Reads an XML language file and returns a <String,String> HashMap of the language data for each object. */
 	public HashMap<String,String> read(String document) throws Exception
 	{
-		// Use the default (non-validating) parser
-		SAXParserFactory factory = SAXParserFactory.newInstance();
-		
 		// Prepare Logger and Notify
 		FWTController.log("Language: Reading XML file: "+document);
 
 		try{
 			// Parse the input
-			SAXParser saxParser = factory.newSAXParser();
-			saxParser.parse(new File(document), this);
+			XMLThreadParser.parse(document, this);
 		}catch (Exception ex) 
 			{
 				ex.printStackTrace(); 
 				throw new Exception(this.getClass().getSimpleName()+": XML Read Error: "+document+"\n      "+ex.getMessage());
 			}
 
-		// Enter Waiting Loop
-		while(!finished)
-			{
-				try{
-					Thread.sleep(1);
-				}
-				catch (Exception ex) {ex.printStackTrace(); throw new Exception(ex.getLocalizedMessage());}
-			}
-		finished = false;
 
 		// Return Data List
 		return data;
@@ -0,0 +1,86 @@
+package com.arboreantears.fwt;
+
+import java.io.File;
+import java.util.ArrayList;
+
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.helpers.DefaultHandler;
+
+
+
+/** Reusable, thread-confined SAX parsers for the FWT XML readers.
+ * <p> Each thread keeps its own parsers, so no locking is needed. Parsing is synchronous:
+ * the handler has received the whole document when {@link #parse(String, DefaultHandler)} returns.
+ * <br> Nested parses on the same thread (e.g. default properties looked up while creating a window) use another parser. */
+public class XMLThreadParser
+{
+
+
+
+	// VARIABLES
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+	/** Shared (non-validating) parser factory. Only used under its own lock. */
+	static final SAXParserFactory factory = SAXParserFactory.newInstance();
+
+	/** This thread's parsers, one per nesting depth. */
+	static final ThreadLocal<ArrayList<SAXParser>> parsers = new ThreadLocal<ArrayList<SAXParser>>()
+	{
+		@Override
+		protected ArrayList<SAXParser> initialValue() {return new ArrayList<SAXParser>(2);}
+	};
+
+	/** This thread's current parse nesting depth. */
+	static final ThreadLocal<int[]> depth = new ThreadLocal<int[]>()
+	{
+		@Override
+		protected int[] initialValue() {return new int[1];}
+	};
+
+
+
+
+	// PARSE
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+
+	/** Parses the given XML file with the given handler on the current thread. */
+	public static void parse(String document, DefaultHandler handler) throws Exception
+	{
+		ArrayList<SAXParser> threadParsers = parsers.get();
+		int[] level = depth.get();
+
+		// Get (or create) the parser for this nesting depth
+		if (threadParsers.size() <= level[0])
+		{
+			synchronized (factory)
+			{
+				threadParsers.add(factory.newSAXParser());
+			}
+		}
+		SAXParser saxParser = threadParsers.get(level[0]);
+
+		level[0]++;
+		try{
+			saxParser.parse(new File(document), handler);
+		} finally
+		{
+			level[0]--;
+			saxParser.reset();
+		}
+	}
+
+
+
+
+
+
+
+
+
+
+}
@@ -1,10 +1,10 @@
 package com.arboreantears.fwt;
 
-import java.io.File;
 import java.util.ArrayList;
-
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
@@ -13,6 +13,7 @@ import org.xml.sax.helpers.DefaultHandler;
 import com.arboreantears.fwt.components.FWTComponent;
 import com.arboreantears.fwt.components.FWTContainer;
 import com.arboreantears.fwt.components.FWTWindow;
+import com.arboreantears.fwt.events.FWTTask;
 import com.badlogic.gdx.files.FileHandle;
 
 
@@ -27,9 +28,6 @@ public class XMLUICreator extends DefaultHandler
 	//***********************************************************************************************
 	//***********************************************************************************************
 
-	/** 'True' if reader is finished reading a file. */
-	boolean finished = false;
-
 	/** Target component to return data. */
 	String targetName = "";
 
@@ -113,7 +111,7 @@ public class XMLUICreator extends DefaultHandler
 			FileHandle overrideFile = new FileHandle(FWTController.getOverrideUIFilePath()+"/"+parentfile+".xml");
 			if (overrideFile.exists())
 				try{
-					window = creator.read(overrideFile.path(), parentfile);
+					window = createFromFile(creator, overrideFile, parentfile);
 				}catch(Exception ex)
 				{
 					// Error message variables
@@ -130,7 +128,7 @@ public class XMLUICreator extends DefaultHandler
 					// Read UI XML file [Core]
 					if (coreFile.exists())
 						try{
-							window = creator.read(coreFile.path(), parentfile);
+							window = createFromFile(creator, coreFile, parentfile);
 						}catch(Exception ex)
 						{
 							// Error message variables
@@ -145,6 +143,123 @@ public class XMLUICreator extends DefaultHandler
 		}
 
 
+	/** Creates the FWTWindow from the given UI XML file, using its compiled layout if current. */
+	static FWTWindow createFromFile(XMLUICreator creator, FileHandle xmlFile, String parentfile) throws Exception
+		{
+			// Compiled layout (falls back to XML on failure)
+			if (BinaryUILayout.hasCurrentLayout(xmlFile))
+				try{
+					FWTWindow window = BinaryUILayout.load(BinaryUILayout.getCompiledFile(xmlFile));
+					if (window != null) return window;
+				}catch(Exception ex)
+				{
+					FWTController.error("XMLUICreator: Unable to load compiled UI layout, using XML: "+ex.getMessage());
+				}
+
+			return creator.read(xmlFile.path(), parentfile);
+		}
+
+
+
+
+
+
+
+	// ASYNCHRONOUS CREATION
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+	/** Number of worker threads used for asynchronous window creation. */
+	static final int CREATION_THREADS = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors()-1));
+
+	/** Worker pool for asynchronous window creation. Created when first needed. */
+	static ExecutorService creationPool;
+
+	/** Returns the worker pool for asynchronous window creation. */
+	static synchronized ExecutorService getCreationPool()
+		{
+			if (creationPool == null)
+				{
+					creationPool = Executors.newFixedThreadPool(CREATION_THREADS, new ThreadFactory()
+						{
+							int count = 0;
+							@Override
+							public Thread newThread(Runnable r)
+								{
+									Thread thread = new Thread(r, "FWTUICreator-"+(count++));
+									thread.setDaemon(true);
+									return thread;
+								}
+						});
+				}
+			return creationPool;
+		}
+
+
+	/** Creates the FWTWindow for the UI specifications with the given parent-file (no extension [.xml]) without blocking the OpenGL thread.
+	 * <p> File reading, parsing, component creation and layout are done on a worker thread. The component back-buffers
+	 * are then allocated through the given manager's task queue, so the work is spread over frames within its task budget.
+	 * <br> The future completes on the OpenGL thread (null if no valid file found), so the window can be added from a completion callback.
+	 * It is cancelled if the manager is disposed before the window is ready. */
+	public static CompletableFuture<FWTWindow> createAsync(final String parentfile, final FWTWindowManager manager)
+		{
+			final CompletableFuture<FWTWindow> future = new CompletableFuture<FWTWindow>();
+
+			getCreationPool().execute(new Runnable()
+				{
+					@Override
+					public void run()
+						{
+							try {
+								final FWTWindow window = create(parentfile);
+								if (window == null)
+									{future.complete(null); return;}
+
+								// Layout (buffers are flagged for resize off the OpenGL thread)
+								window.resize(FWTController.getGraphicsWidth(), FWTController.getGraphicsHeight());
+
+								// Allocate each back-buffer on the OpenGL thread
+								ArrayList<FWTComponent> tree = new ArrayList<FWTComponent>();
+								collectComponents(window, tree);
+								for (final FWTComponent comp : tree)
+									manager.addTask(new FWTTask()
+										{
+											@Override
+											public void process() {comp.prepareBuffer();}
+											@Override
+											public void cancel() {future.cancel(false);}
+										});
+
+								// Complete on the OpenGL thread
+								manager.addTask(new FWTTask()
+									{
+										@Override
+										public void process() {future.complete(window);}
+										@Override
+										public void cancel() {future.cancel(false);}
+									});
+							} catch (Throwable ex)
+								{
+									FWTController.error("XMLUICreator: Asynchronous creation failed: "+parentfile);
+									future.completeExceptionally(ex);
+								}
+						}
+				});
+
+			return future;
+		}
+
+
+	/** Adds the given component and all its sub-components to the given list (parents first). */
+	static void collectComponents(FWTComponent comp, ArrayList<FWTComponent> list)
+		{
+			list.add(comp);
+			if (comp instanceof FWTContainer)
+				for (FWTComponent child : ((FWTContainer)comp).getComponents())
+					collectComponents(child, list);
+		}
+
+
 
 
 
@@ -161,25 +276,12 @@ public class XMLUICreator extends DefaultHandler
 
 			FWTController.log("XMLUICreator: XML UI Creation: "+docPath);
 
-			// Use the default (non-validating) parser
-			SAXParserFactory factory = SAXParserFactory.newInstance();
-
 			try{
 				// Parse the input
-				SAXParser saxParser = factory.newSAXParser();
-				saxParser.parse( new File(docPath), this );
+				XMLThreadParser.parse(docPath, this);
 			}catch (Exception ex) {ex.printStackTrace(); 
 			FWTController.error("XMUICreator: XML Sax exception."); throw new Exception("File: "+docPath+"\n      "+ex.getMessage());}
 
-			// Enter Waiting Loop
-			while(!finished)
-				{
-					try{
-						Thread.sleep(1);
-					}
-					catch (Exception ex) {ex.printStackTrace(); throw new Exception(ex.getLocalizedMessage());}
-				}
-			finished = false;
 
 			// Return the root window
 			return (FWTWindow) componentStack.get(0);
@@ -298,7 +400,6 @@ public class XMLUICreator extends DefaultHandler
 	public void endDocument()
 		{
 
-			this.finished = true;
 		}
 
 
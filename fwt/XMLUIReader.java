@@ -1,9 +1,8 @@
 package com.arboreantears.fwt;
 
-import java.io.File;
-
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
@@ -28,19 +27,60 @@ public class XMLUIReader extends DefaultHandler
 	/** Sets whether XML logging is in verbose mode. */
 	public static void setXMLLogModeVerbose(boolean verboseOn) {xmlLogMode = verboseOn;}
 
-	/** 'True' if reader is finished reading a file. */
-	boolean finished = false;
-
-	/** Target component to return data. */
-	String targetName = "";
-
-	/** The data packet to return. */
-	XMLDataPacket dataPacket;
+	/** Index of every named component in the file being read. */
+	HashMap<String,XMLDataPacket> index;
 
 	/** Current depth of component. 0 is none (root), 1 is a parent window/widget. */
 	int componentDepth = -1;
 
 
+	// DOCUMENT CACHE
+	//***********************************************************************************************
+	//***********************************************************************************************
+
+	/** Parsed UI documents, keyed by resolved file path. */
+	static final ConcurrentHashMap<String,CachedDocument> documentCache = new ConcurrentHashMap<String,CachedDocument>();
+
+	/** A parsed UI document: the component index and the file modification time it was read at. */
+	static class CachedDocument
+	{
+		/** File modification time when this document was parsed. */
+		final long lastModified;
+		/** Component data packets, keyed by component name. */
+		final HashMap<String,XMLDataPacket> index;
+
+		CachedDocument(long lastModified, HashMap<String,XMLDataPacket> index)
+		{
+			this.lastModified = lastModified;
+			this.index = index;
+		}
+	}
+
+
+	/** Returns the component index for the given file, parsing it only if not cached or modified since. */
+	static HashMap<String,XMLDataPacket> getDocument(FileHandle file) throws Exception
+	{
+		String path = file.path();
+		long modified = file.lastModified();
+		CachedDocument doc = documentCache.get(path);
+		if (doc == null || doc.lastModified != modified)
+		{
+			doc = new CachedDocument(modified, new XMLUIReader().readIndex(path));
+			documentCache.put(path, doc);
+		}
+		return doc.index;
+	}
+
+
+	/** Clears all cached UI documents, forcing them to be re-read on the next request. */
+	public static void clearCache()
+	{
+		documentCache.clear();
+	}
+
+
+
+
 	// CONSTRUCTORS
 	//***********************************************************************************************
 	//***********************************************************************************************
@@ -68,14 +108,13 @@ public class XMLUIReader extends DefaultHandler
 	/** Checks to see if UI specifications for the component exist, with the given object name and parent-file (no extension [.xml]). */
 	public static boolean hasUISpecs(String parentfile, String objectName)
 	{
-		XMLUIReader inflater = new XMLUIReader();
 		XMLDataPacket dataPacket = null;
 
 		FileHandle overrideFile = new FileHandle(FWTController.getOverrideUIFilePath()+"/"+parentfile+".xml");
 		if (overrideFile.exists())
 		{
 			try{
-				dataPacket = inflater.read(overrideFile.path(), objectName);
+				dataPacket = getDocument(overrideFile).get(objectName);
 			}catch(Exception ex) { }
 		}
 
@@ -86,7 +125,7 @@ public class XMLUIReader extends DefaultHandler
 			// Read UI XML file [Core]
 			if (coreFile.exists())
 				try{
-					dataPacket = inflater.read(coreFile.path(), objectName);
+					dataPacket = getDocument(coreFile).get(objectName);
 				}catch(Exception ex) { }	
 		}
 
@@ -110,14 +149,13 @@ public class XMLUIReader extends DefaultHandler
 	 * <br> Returns null if no valid file found.  */
 	public static XMLDataPacket getUISpecs(String parentfile, String objectName)
 	{
-		XMLUIReader inflater = new XMLUIReader();
 		XMLDataPacket dataPacket = null;
 
 		// Read UI XML file [override]
 		FileHandle overrideFile = new FileHandle(FWTController.getOverrideUIFilePath()+"/"+parentfile+".xml");
 		if (overrideFile.exists())
 			try{
-				dataPacket = inflater.read(overrideFile.path(), objectName);
+				dataPacket = getDocument(overrideFile).get(objectName);
 			}catch(Exception ex)
 		{
 				// Error message variables
@@ -134,7 +172,7 @@ public class XMLUIReader extends DefaultHandler
 			// Read UI XML file [Core]
 			if (coreFile.exists())
 				try{
-					dataPacket = inflater.read(coreFile.path(), objectName);
+					dataPacket = getDocument(coreFile).get(objectName);
 				}catch(Exception ex)
 			{
 					// Error message variables
@@ -150,6 +188,8 @@ public class XMLUIReader extends DefaultHandler
 			FWTController.error("UI Component: "+objectName+" specifications not found.");
 		else
 		{
+			// Copy so callers cannot alter the cached document
+			dataPacket = dataPacket.clone();
 			// Add XML content information
 			dataPacket.put("parentfile", parentfile);
 			dataPacket.put("objectname", objectName);
@@ -159,6 +199,84 @@ public class XMLUIReader extends DefaultHandler
 	}
 
 
+	/** Returns the UI specifications for each of the given object names in the given parent-file (no extension [.xml]), keyed by object name.
+	 * <br> The override and core files are each resolved once for the whole batch, the core file only if the override file lacks a name.
+	 * Names without specifications (or only in a core file with errors) are left out, as getUISpecs(String, String) would return null for them. */
+	public static HashMap<String,XMLDataPacket> getUISpecs(String parentfile, Collection<String> objectNames)
+	{
+		HashMap<String,XMLDataPacket> results = new HashMap<String,XMLDataPacket>();
+		HashMap<String,XMLDataPacket> overrideIndex = null;
+		HashMap<String,XMLDataPacket> coreIndex = null;
+
+		// Read UI XML file [override]
+		FileHandle overrideFile = new FileHandle(FWTController.getOverrideUIFilePath()+"/"+parentfile+".xml");
+		if (overrideFile.exists())
+			try{
+				overrideIndex = getDocument(overrideFile);
+			}catch(Exception ex)
+		{
+				// Error message variables
+				FWTController.error("Error in UI XML file:");
+				FWTController.error("   "+ex.getMessage());
+				// Return failure
+				return results;
+		}
+
+		// IF any object has no override version, load core version
+		boolean needsCore = overrideIndex == null;
+		if (!needsCore)
+			for (String objectName : objectNames)
+				if (overrideIndex.get(objectName) == null) {needsCore = true; break;}
+		if (needsCore)
+		{
+			FileHandle coreFile = new FileHandle(FWTController.getUIFilePath()+"/"+parentfile+".xml");
+			// Read UI XML file [Core]
+			if (coreFile.exists())
+				try{
+					coreIndex = getDocument(coreFile);
+				}catch(Exception ex)
+			{
+					// Error message variables
+					FWTController.error("Error in UI XML file:");
+					FWTController.error("   "+ex.getMessage());
+					// Only the objects found in the override file are returned
+					for (String objectName : objectNames)
+					{
+						XMLDataPacket dataPacket = (overrideIndex != null) ? overrideIndex.get(objectName) : null;
+						if (dataPacket != null)
+							results.put(objectName, withContent(dataPacket, parentfile, objectName));
+					}
+					return results;
+			}
+		}
+
+		// FOR each requested object (override first)
+		for (String objectName : objectNames)
+		{
+			XMLDataPacket dataPacket = null;
+			if (overrideIndex != null) dataPacket = overrideIndex.get(objectName);
+			if (dataPacket == null && coreIndex != null) dataPacket = coreIndex.get(objectName);
+
+			if (dataPacket == null)
+				FWTController.error("UI Component: "+objectName+" specifications not found.");
+			else
+				results.put(objectName, withContent(dataPacket, parentfile, objectName));
+		}
+
+		return results;
+	}
+
+
+	/** Returns a copy of the given cached specifications, so callers cannot alter the cached document, with the XML content information added. */
+	private static XMLDataPacket withContent(XMLDataPacket dataPacket, String parentfile, String objectName)
+	{
+		dataPacket = dataPacket.clone();
+		dataPacket.put("parentfile", parentfile);
+		dataPacket.put("objectname", objectName);
+		return dataPacket;
+	}
+
+
 
 
 
@@ -174,33 +292,29 @@ public class XMLUIReader extends DefaultHandler
 		if (xmlLogMode)
 			FWTController.log("XML: "+document+" : "+targetName);
 
-		// Use the default (non-validating) parser
-		SAXParserFactory factory = SAXParserFactory.newInstance();
-		this.targetName = targetName;
+		return readIndex(document).get(targetName);
+	}
+
+
+	/** Reads the given file and returns a data packet for every named component, keyed by name. */
+	public HashMap<String,XMLDataPacket> readIndex(String document) throws Exception
+	{
+		index = new HashMap<String,XMLDataPacket>();
+		componentDepth = -1;
 
 		try{
 			// Parse the input
-			SAXParser saxParser = factory.newSAXParser();
-			saxParser.parse( new File(document), this );
+			XMLThreadParser.parse(document, this);
 		}catch (Exception ex) {if (FWTWindowManager.DEBUG_MODE) ex.printStackTrace(); 
 		FWTController.error("ERROR: Sax exception."); throw new Exception("File: "+document+"\n      "+ex.getLocalizedMessage());}
 
 		// Prepare Logger and Notify
 		if (xmlLogMode)
-			FWTController.log("Reading in XML file: UI:  "+document+" : "+targetName);
+			FWTController.log("Reading in XML file: UI:  "+document);
 
-		// Enter Waiting Loop
-		while(!finished)
-		{
-			try{
-				Thread.sleep(1);
-			}
-			catch (Exception ex) {ex.printStackTrace(); throw new Exception(ex.getLocalizedMessage());}
-		}
-		finished = false;
 
-		// Return the data packet
-		return dataPacket;
+		// Return the component index
+		return index;
 	}
 
 
@@ -233,12 +347,13 @@ public class XMLUIReader extends DefaultHandler
 		// Increment depth
 		componentDepth++;
 
-		// IF component name matches target
-		if (attrs.getValue("name") != null && attrs.getValue("name").equals(targetName))
+		// IF component is named (later duplicates replace earlier ones)
+		if (attrs.getValue("name") != null)
 		{
 
 			// Prepare data packet
-			dataPacket = new XMLDataPacket();
+			XMLDataPacket dataPacket = new XMLDataPacket();
+			index.put(attrs.getValue("name"), dataPacket);
 
 			// IF has attributes
 			if (attrs.getLength() > 0)
@@ -291,7 +406,6 @@ public class XMLUIReader extends DefaultHandler
 	public void endDocument()
 	{
 
-		this.finished = true;
 	}
 
 
@@ -169,6 +169,17 @@ public class FWTButton extends FWTComponent
 	//  DRAW
 	//********************************************************************
 
+	/** Adds the pressed background and icon draws. */
+	@Override
+	public int getDrawCost()
+		{
+			int cost = super.getDrawCost();
+			if (pressedTexture != null && !pressedTexture.isEmpty()) cost++;
+			if (iconTexture != null && !iconTexture.isEmpty()) cost++;
+			return cost;
+		}
+
+
 	@Override
 	public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 		{
@@ -179,32 +190,32 @@ public class FWTButton extends FWTComponent
 					if (pressedTexture == null || pressedTexture.isEmpty() || !UIRenderer.hasUIImage(pressedTexture))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (pressedColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch, pressedColor, 0, 0, dims.width, dims.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a pressed texture image
 					else
 						{
-							spriteBatch.begin();
+							UIRenderer.begin(spriteBatch);
 							UIRenderer.drawUIImage(spriteBatch, id, pressedTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -213,58 +224,58 @@ public class FWTButton extends FWTComponent
 				{
 
 					// IF has background
-					if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+					if (!UIRenderer.hasUIImage(getBgImage()))
 						{
 							// Draw fill color
 							if (backgroundColor.a > 0f)
 								{
-									spriteBatch.begin();
+									UIRenderer.begin(spriteBatch);
 									UIRenderer.drawRectangle(spriteBatch, backgroundColor, 0, 0, dims.width, dims.height);
-									spriteBatch.end();
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+							UIRenderer.end(spriteBatch);
 						}
 
 				}
 			else // ELSE mouse is over (highlighted)
 				{
 					// IF has no highlighted background
-					if (highlightTexture == null || highlightTexture.isEmpty() || !UIRenderer.hasUIImage(highlightTexture))
+					if (!UIRenderer.hasUIImage(getHighlightImage()))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (highlightColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch, highlightColor, 0, 0, dims.width, dims.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a highlighted texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, highlightTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getHighlightImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -278,7 +289,7 @@ public class FWTButton extends FWTComponent
 
 			// Draw border
 			// IF has border
-			if (borderTexture == null || borderTexture.isEmpty() || !UIRenderer.hasUIImage(borderTexture))
+			if (!UIRenderer.hasUIImage(getBorderImage()))
 				{
 					// Highlighted?
 					if (!mouseOver)
@@ -286,9 +297,9 @@ public class FWTButton extends FWTComponent
 							// Draw border color
 							if (borderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,borderColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,borderColor,0,0,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 					else
@@ -296,9 +307,9 @@ public class FWTButton extends FWTComponent
 							// Draw highlighted border color
 							if (highlightborderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,highlightborderColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,highlightborderColor,0,0,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 
 						}
@@ -306,9 +317,9 @@ public class FWTButton extends FWTComponent
 			// ELSE has a texture image
 			else
 				{
-					spriteBatch.begin();
-					UIRenderer.drawUIImage(spriteBatch, id, borderTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
-					spriteBatch.end();
+					UIRenderer.begin(spriteBatch);
+					UIRenderer.drawUIImage(spriteBatch, id, getBorderImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
+					UIRenderer.end(spriteBatch);
 				}
 
 
@@ -321,9 +332,9 @@ public class FWTButton extends FWTComponent
 		{
 			if (iconTexture != null)
 				{
-					spriteBatch.begin();
+					UIRenderer.begin(spriteBatch);
 					UIRenderer.drawUIImage(spriteBatch, id, iconTexture, 0, 0, (int)dims.width, (int)dims.height, true, false);
-					spriteBatch.end();
+					UIRenderer.end(spriteBatch);
 				}
 		}
 
@@ -345,7 +356,7 @@ public class FWTButton extends FWTComponent
 							pressed = true; 
 							if (buttonListener != null)
 								buttonListener.tryButtonDown();
-							needsRedrawn = true;
+							redraw();
 
 							return true;
 						}
@@ -359,7 +370,7 @@ public class FWTButton extends FWTComponent
 									buttonListener.tryButtonUp();
 									buttonListener.tryButtonPressed(button);
 								}
-							needsRedrawn = true;
+							redraw();
 							return true;
 						}
 
@@ -375,7 +386,7 @@ public class FWTButton extends FWTComponent
 							else
 								{
 									pressed = false;
-									needsRedrawn = true;
+									redraw();
 									return true;
 								}
 						}
@@ -384,7 +395,7 @@ public class FWTButton extends FWTComponent
 					public boolean dragRelease(int mX, int mY, int pointer)  throws FWTInputException
 						{
 							pressed = false;
-							needsRedrawn = true;
+							redraw();
 							return true;
 						}
 
@@ -5,7 +5,12 @@ import java.util.StringTokenizer;
 import com.arboreantears.fwt.FWTColors;
 import com.arboreantears.fwt.FWTController;
 import com.arboreantears.fwt.FWTImageManager;
+import com.arboreantears.fwt.FWTProfiler;
+import com.arboreantears.fwt.FWTProfiler.Counter;
+import com.arboreantears.fwt.FWTProfiler.Phase;
+import com.arboreantears.fwt.FWTUIBuffer;
 import com.arboreantears.fwt.FWTUIFrameBufferController;
+import com.arboreantears.fwt.FWTUIImage;
 import com.arboreantears.fwt.FWTWindowManager;
 import com.arboreantears.fwt.Language;
 import com.arboreantears.fwt.UIRenderer;
@@ -17,8 +22,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 
 
@@ -195,9 +200,9 @@ public class FWTComponent
 	/** Returns 'true' if this drawable component is enabled to be rendered and receive input. */
 	public boolean isEnabled() {return enabled;}
 	/** Sets this drawable component disabled, will not be rendered or receive input. */
-	public void disable() {enabled = false; needsRedrawn = false;}
+	public void disable() {enabled = false; needsRedrawn = false; markParentsDirty();}
 	/** Sets this drawable component enabled, will now be rendered and receive input. */
-	public void enable() {enabled = true; needsRedrawn = true;}
+	public void enable() {enabled = true; redraw();}
 
 
 	// Input Receiver
@@ -296,7 +301,7 @@ public class FWTComponent
 	/** Returns this drawable component's image texture ID. */
 	public String getTexture() {return bgTexture;}
 	/** Sets this drawable component's image texture ID. Set to 'null' to use background coloring instead. */
-	public void setTexture(String imgID) {bgTexture = imgID;}
+	public void setTexture(String imgID) {bgTexture = imgID; getBgImage();}
 
 	/** 'True' if this drawable component should scale its texture to fit (stretched). */
 	protected boolean scaleTexture;
@@ -319,14 +324,28 @@ public class FWTComponent
 	/** Returns this drawable component's image texture ID when highlighted. */
 	public String getTextureHighlighted() {return highlightTexture;}
 	/** Sets this drawable component's image texture ID  when highlighted. Set to 'null' to use normal texture/background instead. */
-	public void setTextureHighlighted(String imgID) {highlightTexture = imgID;}
+	public void setTextureHighlighted(String imgID) {highlightTexture = imgID; getHighlightImage();}
 
 	/** This drawable component's image texture ID for its border. */
 	protected String borderTexture;
 	/** Returns this drawable component's image texture ID for its border. */
 	public String getBorderTexture() {return borderTexture;}
 	/** Sets this drawable component's image texture ID for its border. */
-	public void setBorderTexture(String border) {borderTexture = border;}
+	public void setBorderTexture(String border) {borderTexture = border; getBorderImage();}
+
+
+	/** Pre-resolved images of the texture IDs above, so drawing needs no name lookup. */
+	private FWTUIImage bgImage = FWTUIImage.NONE, highlightImage = FWTUIImage.NONE, borderImage = FWTUIImage.NONE;
+	/** Texture ID each image was resolved from. */
+	private String bgImageSource, highlightImageSource, borderImageSource;
+
+	// Images are re-resolved only when their ID is replaced (identity check, no string comparison)
+	/** Returns the pre-resolved background image. */
+	protected FWTUIImage getBgImage() {if (bgImageSource != bgTexture) {bgImage = FWTImageManager.getUIImage(bgTexture); bgImageSource = bgTexture;} return bgImage;}
+	/** Returns the pre-resolved highlighted background image. */
+	protected FWTUIImage getHighlightImage() {if (highlightImageSource != highlightTexture) {highlightImage = FWTImageManager.getUIImage(highlightTexture); highlightImageSource = highlightTexture;} return highlightImage;}
+	/** Returns the pre-resolved border image. */
+	protected FWTUIImage getBorderImage() {if (borderImageSource != borderTexture) {borderImage = FWTImageManager.getUIImage(borderTexture); borderImageSource = borderTexture;} return borderImage;}
 
 
 
@@ -337,7 +356,25 @@ public class FWTComponent
 	/** 'True' if this drawable component needs redrawn to its back buffer. */
 	protected boolean needsRedrawn;
 	/** Sets this drawable component to update its back buffer on the next render cycle. */
-	public void redraw() {needsRedrawn = true;}
+	public void redraw() {needsRedrawn = true; markParentsDirty();}
+
+	/** 'True' if a descendant of this component changed since this component's back buffer was last drawn. */
+	protected volatile boolean childrenDirty;
+
+	/** Marks every ancestor of this component as having a changed descendant, so each redraws its back buffer.
+	 * <br> Each ancestor is damaged by the region of its child on the path to this component. */
+	protected void markParentsDirty()
+		{
+			FWTComponent child = this;
+			for (FWTContainer p = parent; p != null; child = p, p = p.parent)
+				{
+					p.addDamage(child.dims);
+					p.childrenDirty = true;
+				}
+		}
+
+	/** Returns the region of the back buffer being redrawn, or null when redrawing it whole. */
+	protected Rectangle getRedrawRegion() {return null;}
 
 
 
@@ -358,7 +395,50 @@ public class FWTComponent
 	/** 'True' if this component is currently animating (needs redrawn each frame). */
 	protected boolean isAnimating;
 	/** Sets this component's animating status (animating components are drawn each frame). */
-	public void setAnimating(boolean an) {isAnimating = an;}
+	public void setAnimating(boolean an) {isAnimating = an; markParentsDirty();}
+
+
+
+	// Draw Mode
+	//---------------------------
+
+	/** How a component is drawn: through its own back buffer, or directly into its parent's drawing context. */
+	public static enum DrawMode {BUFFERED, DIRECT, AUTO}
+
+	/** Maximum draw cost (see {@link #getDrawCost()}) of a component drawn directly in AUTO mode. */
+	public static int DIRECT_DRAW_MAX_COST = 3;
+
+	/** This component's draw mode. */
+	protected DrawMode drawMode;
+	/** Returns this component's draw mode. */
+	public DrawMode getDrawMode() {return drawMode;}
+	/** Sets this component's draw mode. */
+	public void setDrawMode(DrawMode mode) {drawMode = (mode == null) ? DrawMode.AUTO : mode; needsResize = true; redraw();}
+
+	/** Returns 'true' if this component is drawn directly into its parent's drawing context, without a back buffer. */
+	public boolean isDirectDraw()
+		{
+			if (drawMode == DrawMode.DIRECT) return true;
+			if (drawMode == DrawMode.BUFFERED) return false;
+			return getDrawCost() <= DIRECT_DRAW_MAX_COST;
+		}
+
+	/** Returns an estimate of the number of draw operations of this component (a plain fill or image is 1, a tiled image is 4).
+	 * <br> Expected to be extended by subclasses drawing more than the background and border. */
+	public int getDrawCost()
+		{
+			int cost = 0;
+			// Background
+			if (hasImage(bgTexture) || hasImage(highlightTexture)) cost += tileTexture ? 4 : 1;
+			else if (backgroundColor.a > 0f || highlightColor.a > 0f) cost++;
+			// Border
+			if (hasImage(borderTexture)) cost += tileTexture ? 4 : 1;
+			else if (borderColor.a > 0f || highlightborderColor.a > 0f) cost++;
+			return cost;
+		}
+
+	/** Returns 'true' if the given image ID is set. */
+	private static boolean hasImage(String imgID) {return imgID != null && !imgID.isEmpty();}
 
 
 
@@ -445,6 +525,7 @@ public class FWTComponent
 			tileTexture = false;
 			needsRedrawn = true;
 			drawPriority = Integer.MAX_VALUE-1;
+			drawMode = DrawMode.AUTO;
 			data = new XMLDataPacket();		
 		}
 
@@ -574,6 +655,21 @@ public class FWTComponent
 							this.tileTexture = data.get("texturefill").equals("tiled") ? true : false;
 						}
 
+					// DRAW MODE
+					//========================
+					if (data.get("drawmode") != null)
+						{
+							try{
+								this.drawMode = DrawMode.valueOf(data.get("drawmode").trim().toUpperCase());
+							}catch(IllegalArgumentException ex)
+								{FWTController.error("Invalid draw mode for UI: '"+this.name+"': "+data.get("drawmode"));}
+						}
+
+
+					// Resolve texture images once
+					getBgImage();
+					getHighlightImage();
+					getBorderImage();
 
 					// COMPONENT DATA
 					//========================
@@ -1028,19 +1124,41 @@ public class FWTComponent
 	 * Should only be called from update/render (OpenGL context required).*/
 	public void resize(Rectangle dims)
 		{
+			// Previous region must be redrawn too
+			if (parent != null && this.dims != null)
+				parent.addDamage(this.dims);
 			this.dims = dims;
+			// Parent hit-testing follows the new bounds
+			if (parent != null) parent.invalidateHitGrid();
 
 			// No buffer changes outside of OpenGL loop
 			if (Thread.currentThread().getId() == FWTController.getOpenGLThreadID())
 				{
-					FWTUIFrameBufferController.resizeUIBuffer(this);
+					resizeBuffer();
 					needsResize = false;
 				}
 			else
 				needsResize = true; // Indicate for next render call
 
-			needsRedrawn = true;
+			redraw();
+
+		}
 
+
+	/** Allocates this component's back buffer now if a resize is pending (e.g. laid out off the OpenGL thread). 
+	 * Should only be called from the OpenGL thread. */
+	public void prepareBuffer()
+		{
+			if (needsResize)
+				{resizeBuffer(); needsResize = false; redraw();}
+		}
+
+
+	/** Resizes this component's back buffer to its dimensions, or releases it if drawn directly. */
+	void resizeBuffer()
+		{
+			if (isDirectDraw()) FWTUIFrameBufferController.removeUIBuffer(this);
+			else FWTUIFrameBufferController.resizeUIBuffer(this);
 		}
 
 
@@ -1072,7 +1190,9 @@ public class FWTComponent
 
 			try {
 				// Update component data
+				long start = FWTProfiler.start();
 				update();
+				FWTProfiler.record(Phase.UPDATE, this, start);
 			}catch (Exception ex)
 				{
 					FWTController.error("Error updating component: "+this.getName());
@@ -1085,23 +1205,35 @@ public class FWTComponent
 
 				// Resize if required
 				if (needsResize)
-					{FWTUIFrameBufferController.resizeUIBuffer(this); needsResize = false; needsRedrawn = true;}
+					{resizeBuffer(); needsResize = false; needsRedrawn = true;}
+
+				// Switch buffers when the draw mode changes
+				boolean direct = isDirectDraw();
+				if (direct != drawnDirect)
+					{drawnDirect = direct; resizeBuffer(); needsRedrawn = true;}
+
+				// Cheap components skip the back buffer
+				if (direct)
+					{renderDirect(); return;}
 
 				// Redraw back buffer if required
 				if (needsRedrawn || isAnimating)
-					{redrawBuffer(); needsRedrawn = false;}
+					{
+						long start = FWTProfiler.start();
+						redrawBuffer(); needsRedrawn = false; if (isAnimating) markParentsDirty();
+						FWTProfiler.record(Phase.REDRAW, this, start);
+					}
 
 				// Draw back buffer
-				FrameBuffer fb = FWTUIFrameBufferController.getUIBuffer(this);
-				spriteBatch.begin();
-				spriteBatch.setBlendFunction(-1, -1);
-				Gdx.gl20.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE);
-				spriteBatch.draw(fb.getColorBufferTexture(), 
-						dims.x,dims.y,dims.width,dims.height,
-						0,0,fb.getWidth(),fb.getHeight(),
-						false, true); 
-				spriteBatch.end();
-				spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+				long start = FWTProfiler.start();
+				FWTUIBuffer fb = FWTUIFrameBufferController.getUIBufferRegion(this);
+				UIRenderer.begin(spriteBatch);
+				// Siblings share the blending, so consecutive buffers draw in one batch
+				UIRenderer.setBufferBlending(spriteBatch);
+				fb.draw(spriteBatch, dims.x,dims.y,dims.width,dims.height);
+				UIRenderer.end(spriteBatch);
+				FWTProfiler.count(Counter.BLITS);
+				FWTProfiler.record(Phase.BLIT, this, start);
 			}catch (Exception ex)
 				{
 					if (spriteBatch.isDrawing()) spriteBatch.end();
@@ -1113,6 +1245,54 @@ public class FWTComponent
 
 
 
+	/** 'True' if this component was last drawn directly. */
+	private boolean drawnDirect;
+
+	/** Transform storage while drawing directly. */
+	private static final Matrix4 batchTransform = new Matrix4(), shapeTransform = new Matrix4();
+
+	/** Draws this component straight into the current drawing context, offset to its position and clipped to its bounds. */
+	protected void renderDirect()
+		{
+			SpriteBatch spriteBatch = FWTController.getSpriteBatch();
+			ShapeRenderer shapeRenderer = FWTController.getShapeRenderer();
+			FWTProfiler.count(Counter.DIRECT_DRAWS);
+			long start = FWTProfiler.start();
+
+			// Offset drawing to this component's position
+			batchTransform.set(spriteBatch.getTransformMatrix());
+			shapeTransform.set(shapeRenderer.getTransformMatrix());
+			spriteBatch.setTransformMatrix(spriteBatch.getTransformMatrix().translate(dims.x, dims.y, 0f));
+			shapeRenderer.setTransformMatrix(shapeRenderer.getTransformMatrix().translate(dims.x, dims.y, 0f));
+			FWTUIFrameBufferController.beginDirectClip(dims);
+
+			try{
+				spriteBatch.enableBlending();
+				spriteBatch.setColor(Color.WHITE);
+				FWTController.enableBlending();
+				// Blend as the back buffer would have been
+				UIRenderer.setBufferBlending(spriteBatch);
+
+				drawBefore(spriteBatch,shapeRenderer);
+				draw(spriteBatch,shapeRenderer);
+				drawAfter(spriteBatch,shapeRenderer);
+			}finally
+				{
+					UIRenderer.end(spriteBatch);
+					if (shapeRenderer.isDrawing()) shapeRenderer.end();
+					FWTUIFrameBufferController.endDirectClip();
+					spriteBatch.setTransformMatrix(batchTransform);
+					shapeRenderer.setTransformMatrix(shapeTransform);
+				}
+
+			needsRedrawn = false;
+			if (isAnimating) markParentsDirty();
+			FWTProfiler.record(Phase.REDRAW, this, start);
+		}
+
+
+
+
 	//  REDRAW
 	//********************************************************************
 	//********************************************************************
@@ -1122,9 +1302,10 @@ public class FWTComponent
 		{
 			SpriteBatch spriteBatch = FWTController.getSpriteBatch();
 			ShapeRenderer shapeRenderer = FWTController.getShapeRenderer();
+			FWTProfiler.count(Counter.REDRAWS);
 
 			// Enter frame buffer
-			FWTUIFrameBufferController.pushDrawingContext(FWTUIFrameBufferController.getUIBuffer(this));
+			FWTUIFrameBufferController.pushDrawingContext(FWTUIFrameBufferController.getUIBufferRegion(this), getRedrawRegion());
 
 			// Clear buffer
 			Gdx.gl.glClearColor(0f,0f,0f,0f);
@@ -1132,6 +1313,7 @@ public class FWTComponent
 
 			spriteBatch.enableBlending();
 			spriteBatch.setColor(Color.WHITE);
+			UIRenderer.setDefaultBlending(spriteBatch);
 
 			// Enable blending
 			FWTController.enableBlending();
@@ -1164,65 +1346,65 @@ public class FWTComponent
 				{
 
 					// IF has background
-					if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+					if (!UIRenderer.hasUIImage(getBgImage()))
 						{
 							// Draw fill color
 							if (backgroundColor.a > 0f)
 								{
-									spriteBatch.begin();
+									UIRenderer.begin(spriteBatch);
 									UIRenderer.drawRectangle(spriteBatch,backgroundColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
+							UIRenderer.end(spriteBatch);
 						}
 
 				}
 			else // ELSE mouse is over (highlighted)
 				{
 					// IF has no highlighted background
-					if (highlightTexture == null || highlightTexture.isEmpty() || !UIRenderer.hasUIImage(highlightTexture))
+					if (!UIRenderer.hasUIImage(getHighlightImage()))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (highlightColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch,highlightColor,0,0,dims.width,dims.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a highlighted texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, highlightTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getHighlightImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
 
 			// Draw border
 			// IF has border
-			if (borderTexture == null || borderTexture.isEmpty() || !UIRenderer.hasUIImage(borderTexture))
+			if (!UIRenderer.hasUIImage(getBorderImage()))
 				{
 					// Highlighted?
 					if (!mouseOver)
@@ -1230,9 +1412,9 @@ public class FWTComponent
 							// Draw border color
 							if (borderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,borderColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,borderColor,0,0,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 					else
@@ -1240,9 +1422,9 @@ public class FWTComponent
 							// Draw highlighted border color
 							if (highlightborderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,highlightborderColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,highlightborderColor,0,0,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 
 						}
@@ -1250,9 +1432,9 @@ public class FWTComponent
 			// ELSE has a texture image
 			else
 				{
-					spriteBatch.begin();
-					UIRenderer.drawUIImage(spriteBatch, id, borderTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
-					spriteBatch.end();
+					UIRenderer.begin(spriteBatch);
+					UIRenderer.drawUIImage(spriteBatch, id, getBorderImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
+					UIRenderer.end(spriteBatch);
 				}
 
 		}
@@ -1277,7 +1459,6 @@ public class FWTComponent
 		{
 			inputReceiver = null;
 			FWTUIFrameBufferController.removeUIBuffer(this);
-			FWTImageManager.removeBorderNinePatch(this.getID());
 		}
 
 
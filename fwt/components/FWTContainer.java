@@ -6,15 +6,19 @@ import java.util.Comparator;
 import java.util.Iterator;
 
 import com.arboreantears.fwt.FWTController;
-import com.arboreantears.fwt.FWTImageManager;
+import com.arboreantears.fwt.FWTProfiler;
+import com.arboreantears.fwt.FWTProfiler.Counter;
+import com.arboreantears.fwt.FWTProfiler.Phase;
+import com.arboreantears.fwt.FWTUIBuffer;
 import com.arboreantears.fwt.FWTUIFrameBufferController;
 import com.arboreantears.fwt.FWTWindowManager;
+import com.arboreantears.fwt.UIRenderer;
 import com.arboreantears.fwt.XMLDataPacket;
 import com.arboreantears.fwt.events.FWTInputException;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Rectangle;
 
 
 
@@ -59,6 +63,7 @@ public class FWTContainer extends FWTComponent
 					else component.setResize();
 					component.onAdded();
 					components.add(component);
+					invalidateHitGrid();
 				}
 		}
 	/** Returns the FWTComponent contained in this Container.  Returns null if none found. */
@@ -83,9 +88,11 @@ public class FWTContainer extends FWTComponent
 							if (comp2.getID() == comp.getID())
 								{
 									comp2.onRemoved();
+									comp2.markParentsDirty();
 									comp2.setParent(null);
 									comp2.setWindowManager(null);
 									itrC.remove();
+									invalidateHitGrid();
 									return true;
 								}
 						}
@@ -106,6 +113,8 @@ public class FWTContainer extends FWTComponent
 					comp.dispose();
 					comp = null;
 				}
+			invalidateHitGrid();
+			redraw();
 		}
 
 	@Override
@@ -171,6 +180,141 @@ public class FWTContainer extends FWTComponent
 
 
 
+	// Damage
+	//---------------------------
+
+	/** Union of the regions changed since the last redraw, in this container's back-buffer coordinates. */
+	final Rectangle damage = new Rectangle();
+	/** 'True' if 'damage' holds a changed region. */
+	boolean hasDamage;
+
+	/** Region of the back buffer being redrawn, or null when redrawing it whole. */
+	Rectangle redrawRegion;
+	/** Storage for 'redrawRegion'. */
+	final Rectangle redrawArea = new Rectangle();
+
+	/** Adds the given region (in this container's back-buffer coordinates) to the region redrawn on the next render. */
+	public void addDamage(Rectangle region)
+		{
+			synchronized (damage)
+				{
+					if (hasDamage)
+						damage.merge(region);
+					else
+						{damage.set(region); hasDamage = true;}
+				}
+		}
+
+	@Override
+	protected Rectangle getRedrawRegion() {return redrawRegion;}
+
+	/** Returns the region of the back buffer that is shown (null if all of it), in drawing coordinates.
+	 * <br> Redraws are limited to this region and components outside of it are culled. */
+	protected Rectangle getVisibleRegion() {return null;}
+
+	/** Region exposed by a scroll. */
+	private final Rectangle exposed = new Rectangle();
+
+	/** Moves this container's back buffer to show the given region (in drawing coordinates) of a larger virtual area.
+	 * <br> The part still in view is copied and only the exposed strips are redrawn; larger moves redraw the whole buffer. */
+	protected void scrollBuffer(Rectangle view)
+		{
+			FWTUIBuffer fb = FWTUIFrameBufferController.getUIBufferRegion(this);
+			int x = (int)view.x, y = (int)view.y;
+			int dx = x - fb.getOriginX(), dy = y - fb.getOriginY();
+			if (dx == 0 && dy == 0) return;
+
+			int width = fb.getWidth(), height = fb.getHeight();
+			if (!needsRedrawn && !isAnimating && Math.abs(dx) < width && Math.abs(dy) < height
+					&& FWTUIFrameBufferController.scrollUIBuffer(this, dx, dy))
+				{
+					if (dx != 0) addDamage(exposed.set((dx > 0) ? x + width - dx : x, y, Math.abs(dx), height));
+					if (dy != 0) addDamage(exposed.set(x, (dy > 0) ? y + height - dy : y, width, Math.abs(dy)));
+					childrenDirty = true;
+				}
+			else
+				{fb.setOrigin(x, y); needsRedrawn = true;}
+		}
+
+
+
+	// Culling
+	//---------------------------
+
+	/** How components outside the visible region (see {@link #getVisibleRegion()}) are updated while culled. */
+	public static enum OffscreenUpdate {ALWAYS, INTERVAL, NEVER}
+
+	/** Default update policy of culled components. */
+	public static OffscreenUpdate DEFAULT_OFFSCREEN_UPDATE = OffscreenUpdate.ALWAYS;
+
+	/** Update policy of this container's culled components. */
+	OffscreenUpdate offscreenUpdate;
+	/** Returns the update policy of this container's culled components. */
+	public OffscreenUpdate getOffscreenUpdate() {return offscreenUpdate;}
+	/** Sets the update policy of this container's culled components. */
+	public void setOffscreenUpdate(OffscreenUpdate policy) {offscreenUpdate = (policy == null) ? DEFAULT_OFFSCREEN_UPDATE : policy;}
+
+	/** Redraws between updates of culled components in INTERVAL mode. */
+	int offscreenUpdateInterval;
+	/** Sets the number of redraws between updates of culled components in INTERVAL mode. */
+	public void setOffscreenUpdateInterval(int redraws) {offscreenUpdateInterval = Math.max(redraws, 1);}
+
+	/** Redraws with culled components since their last update. */
+	int offscreenSkipped;
+
+
+
+	// Hit-testing
+	//---------------------------
+
+	/** Minimum number of components for a container to hit-test through a spatial grid. */
+	public static int HIT_GRID_THRESHOLD = 32;
+
+	/** 'True' if this container may use a spatial grid for hit-testing. */
+	boolean hitGridEnabled = true;
+	/** Sets whether this container may use a spatial grid for hit-testing (with enough components). */
+	public void setHitGridEnabled(boolean enabled) {hitGridEnabled = enabled; invalidateHitGrid();}
+
+	/** Spatial grid over this container's components. Created when first needed. */
+	FWTHitGrid hitGrid;
+	/** 'True' if the spatial grid must be rebuilt before its next use. */
+	volatile boolean hitGridDirty = true;
+	/** Indicates the component layout changed, so the spatial grid is rebuilt on its next use. */
+	public void invalidateHitGrid() {hitGridDirty = true;}
+
+
+	/** Returns the top-most (last drawn) enabled component containing the given local coordinates, or null if none. */
+	public FWTComponent getComponentAt(int lmX, int lmY)
+		{
+			// Few components, linear scan
+			if (!hitGridEnabled || components.size() < HIT_GRID_THRESHOLD)
+				{
+					// Reversal through components (opposite of draw order)
+					for (int cc=components.size()-1; cc>-1; cc--)
+						{
+							FWTComponent comp = components.get(cc);
+							if (comp.enabled && comp.contains(lmX, lmY))
+								return comp;
+						}
+					return null;
+				}
+
+			// Rebuild grid if the layout changed
+			synchronized (this)
+				{
+					if (hitGrid == null)
+						hitGrid = new FWTHitGrid();
+					if (hitGridDirty || hitGrid.size() != components.size())
+						{
+							hitGridDirty = false;
+							hitGrid.build(components);
+						}
+					return hitGrid.getComponentAt(lmX, lmY);
+				}
+		}
+
+
+
 
 
 
@@ -205,6 +349,32 @@ public class FWTContainer extends FWTComponent
 		{
 			super.setDefaults();
 			components = new ArrayList<FWTComponent>();
+			offscreenUpdate = DEFAULT_OFFSCREEN_UPDATE;
+			offscreenUpdateInterval = 10;
+		}
+
+
+	@Override
+	public void applyDataParameters(XMLDataPacket data)
+		{
+			super.applyDataParameters(data);
+
+			if (data != null)
+				{
+					// OFFSCREEN UPDATE
+					//========================
+					if (data.get("offscreenupdate") != null)
+						{
+							try{
+								this.offscreenUpdate = OffscreenUpdate.valueOf(data.get("offscreenupdate").trim().toUpperCase());
+							}catch(IllegalArgumentException ex)
+								{FWTController.error("Invalid offscreen update for UI: '"+this.name+"': "+data.get("offscreenupdate"));}
+						}
+					if (data.get("offscreenupdateinterval") != null)
+						{
+							setOffscreenUpdateInterval(data.getInt("offscreenupdateinterval"));
+						}
+				}
 		}
 	
 
@@ -249,6 +419,7 @@ public class FWTContainer extends FWTComponent
 	public void resize(int width, int height)
 		{
 			super.resize(width, height);
+			invalidateHitGrid();
 
 			for (FWTComponent comp : components)
 				{
@@ -275,7 +446,9 @@ public class FWTContainer extends FWTComponent
 		{
 			try {
 				// Update component data
+				long start = FWTProfiler.start();
 				update();
+				FWTProfiler.record(Phase.UPDATE, this, start);
 			}catch (Exception ex)
 				{
 					FWTController.error("Error updating component: "+this.getName());
@@ -287,25 +460,22 @@ public class FWTContainer extends FWTComponent
 
 				// Resize if required
 				if (needsResize)
-					{FWTUIFrameBufferController.resizeUIBuffer(this); needsResize = false;}
+					{FWTUIFrameBufferController.resizeUIBuffer(this); needsResize = false; needsRedrawn = true;}
 
 				// Redraw back buffer if required
-				if (needsRedrawn || isAnimating || componentsNeedRedrawn() || componentsAnimating())
-					{redrawBuffer(); needsRedrawn = false;}
+				redrawIfNeeded();
 
 				SpriteBatch spriteBatch = FWTController.getSpriteBatch();
 
 				// Draw back buffer
-				FrameBuffer fb = FWTUIFrameBufferController.getUIBuffer(this);
-				spriteBatch.begin();
-				spriteBatch.setBlendFunction(-1, -1);
-				Gdx.gl20.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE);
-				spriteBatch.draw(fb.getColorBufferTexture(), 
-						dims.x,dims.y,dims.width,dims.height,
-						0,0,fb.getWidth(),fb.getHeight(),
-						false, true); 
-				spriteBatch.end();
-				spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+				long start = FWTProfiler.start();
+				FWTUIBuffer fb = FWTUIFrameBufferController.getUIBufferRegion(this);
+				UIRenderer.begin(spriteBatch);
+				UIRenderer.setBufferBlending(spriteBatch);
+				fb.draw(spriteBatch, dims.x,dims.y,dims.width,dims.height);
+				UIRenderer.end(spriteBatch);
+				FWTProfiler.count(Counter.BLITS);
+				FWTProfiler.record(Phase.BLIT, this, start);
 			}catch (Exception ex)
 				{
 					FWTController.error("Error rendering container: "+this.getName());
@@ -314,26 +484,56 @@ public class FWTContainer extends FWTComponent
 		}
 
 
-	/** Returns 'true' if any of this containers components need redrawn. */
-	public boolean componentsNeedRedrawn()
+	/** Redraws this container's back buffer if it or its components changed.
+	 * <br> When only components changed, just the damaged region is cleared and redrawn. */
+	protected void redrawIfNeeded()
 		{
-			for (FWTComponent comp : components)
+			if (needsRedrawn || isAnimating || componentsNeedRedrawn())
 				{
-					if (comp.enabled)
+					long start = FWTProfiler.start();
+					childrenDirty = false;
+					redrawRegion = null;
+					synchronized (damage)
 						{
-							if (comp instanceof FWTContainer)
-								{
-									if (((FWTContainer) comp).componentsNeedRedrawn() || comp.needsRedrawn)
-										return true;
-								}
-							else if (comp.needsRedrawn)
-								return true;
+							if (hasDamage && !needsRedrawn && !isAnimating)
+								redrawRegion = redrawArea.set(damage);
+							hasDamage = false;
 						}
+					// Components out of view aren't drawn
+					Rectangle visible = getVisibleRegion();
+					if (visible != null)
+						{
+							if (redrawRegion == null)
+								redrawRegion = redrawArea.set(visible);
+							else if (!Intersector.intersectRectangles(redrawRegion, visible, redrawRegion))
+								redrawRegion.setSize(0, 0);
+						}
+					// Only out of view changes, nothing to redraw
+					if (redrawRegion != null && (redrawRegion.width <= 0 || redrawRegion.height <= 0))
+						updateCulledComponents(visible);
+					else
+						redrawBuffer();
+					redrawRegion = null;
+					needsRedrawn = false;
+					if (isAnimating) markParentsDirty();
+					FWTProfiler.record(Phase.REDRAW, this, start);
 				}
-			return false;
 		}
 
-	/** Returns 'true' if any of this containers components are currently animating. */
+
+	/** Containers always keep a back buffer: it caches the drawing of all their components. */
+	@Override
+	public boolean isDirectDraw() {return false;}
+
+
+	/** Returns 'true' if any of this containers components need redrawn (or animated) since its last redraw. */
+	public boolean componentsNeedRedrawn()
+		{
+			// Set upward by components on redraw, animation and enable
+			return childrenDirty;
+		}
+
+	/** Returns 'true' if any of this containers components are currently animating. Scans the whole hierarchy. */
 	public boolean componentsAnimating()
 		{
 			for (FWTComponent comp : components)
@@ -371,7 +571,7 @@ public class FWTContainer extends FWTComponent
 	public void redrawComponents()
 		{
 			// Enter This Component's Buffer
-			FWTUIFrameBufferController.pushDrawingContext(FWTUIFrameBufferController.getUIBuffer(this));
+			FWTUIFrameBufferController.pushDrawingContext(FWTUIFrameBufferController.getUIBufferRegion(this), getRedrawRegion());
 
 			// Draw Components
 			//***********************************
@@ -394,6 +594,7 @@ public class FWTContainer extends FWTComponent
 	public void sortComponents()
 		{
 			Collections.sort(components,FWTContainer.getComponentComparator());
+			invalidateHitGrid();
 		}
 
 
@@ -404,17 +605,62 @@ public class FWTContainer extends FWTComponent
 	//********************************************************************
 
 
-	/** Render this containers components. */
+	/** Render this containers components. During a partial redraw only components in the redrawn region are drawn.
+	 * <br> Components outside the visible region are culled: they are only updated, following the offscreen update policy. */
 	protected void drawComponents()
 		{
+			Rectangle region = redrawRegion;
+			Rectangle visible = getVisibleRegion();
+			boolean updateCulled = isCulledUpdateDue(visible);
 			for (FWTComponent comp : components)
 				if (comp.enabled)
 					{
-						comp.render();
+						if (visible != null && !visible.overlaps(comp.dims))
+							{
+								if (updateCulled) updateCulled(comp);
+							}
+						else if (region == null || region.overlaps(comp.dims))
+							comp.render();
 					}
 		}
 
 
+	/** Updates the enabled components outside the given visible region, following the offscreen update policy. */
+	protected void updateCulledComponents(Rectangle visible)
+		{
+			if (!isCulledUpdateDue(visible)) return;
+			for (FWTComponent comp : components)
+				if (comp.enabled && !visible.overlaps(comp.dims))
+					updateCulled(comp);
+		}
+
+
+	/** Returns 'true' if culled components are updated on this redraw. */
+	private boolean isCulledUpdateDue(Rectangle visible)
+		{
+			if (visible == null || offscreenUpdate == OffscreenUpdate.NEVER) return false;
+			if (offscreenUpdate == OffscreenUpdate.ALWAYS) return true;
+			if (++offscreenSkipped < offscreenUpdateInterval) return false;
+			offscreenSkipped = 0;
+			return true;
+		}
+
+
+	/** Updates a culled component without drawing it. It stays marked for redraw until it is back in view. */
+	private void updateCulled(FWTComponent comp)
+		{
+			try {
+				long start = FWTProfiler.start();
+				comp.update();
+				FWTProfiler.record(Phase.UPDATE, comp, start);
+			}catch (Exception ex)
+				{
+					FWTController.error("Error updating component: "+comp.getName());
+					FWTController.error(ex.getMessage());
+				}
+		}
+
+
 
 
 	//  DISPOSE
@@ -428,8 +674,8 @@ public class FWTContainer extends FWTComponent
 			mouseFocused = null;
 			enabled = false;
 			this.clearComponents();
+			if (hitGrid != null) hitGrid.clear();
 			FWTUIFrameBufferController.removeUIBuffer(this);
-			FWTImageManager.removeBorderNinePatch(this.getID());
 		}
 
 
@@ -503,30 +749,27 @@ public class FWTContainer extends FWTComponent
 			int lmX = mX - (int)dims.x;
 			int lmY = mY - (int)dims.y;
 
-			// Reversal through components (opposite of draw order)
-			for (int cc=components.size()-1; cc>-1; cc--)
+			// Top-most component under the mouse
+			FWTComponent comp = getComponentAt(lmX, lmY);
+			if (comp != null)
 				{
-					FWTComponent comp = components.get(cc);
-					if (comp.enabled && comp.contains(lmX, lmY))
+					// IF no previous focus component
+					if (mouseFocused == null)
 						{
-							// IF no previous focus component
-							if (mouseFocused == null)
-								{
-									// Enter next focus object
-									mouseFocused = comp;
-									comp.onEnter();
-								}
-							// ELSE IF not the same object
-							else if (comp.getID() != mouseFocused.getID())
-								{
-									// Leave last focus object
-									mouseFocused.onExit();
-									// Enter next focus object
-									mouseFocused = comp;
-									comp.onEnter();
-								}
-							return comp.mouseMoved(lmX, lmY);
+							// Enter next focus object
+							mouseFocused = comp;
+							comp.onEnter();
+						}
+					// ELSE IF not the same object
+					else if (comp.getID() != mouseFocused.getID())
+						{
+							// Leave last focus object
+							mouseFocused.onExit();
+							// Enter next focus object
+							mouseFocused = comp;
+							comp.onEnter();
 						}
+					return comp.mouseMoved(lmX, lmY);
 				}
 
 			// IF no component caught movement
@@ -0,0 +1,173 @@
+package com.arboreantears.fwt.components;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.math.Rectangle;
+
+
+
+
+/** A uniform-grid spatial index over the components of a FWTContainer, used for hit-testing.
+ * <p> Each cell lists the components whose dimensions overlap it, in draw order.
+ * The grid is a snapshot: it must be rebuilt when components are added, removed, moved or resized. */
+public class FWTHitGrid
+{
+
+	//  VARIABLES
+	//********************************************************************
+	//********************************************************************
+
+	/** Maximum number of cells per grid side. */
+	public static final int MAX_CELLS = 64;
+
+
+	/** Indexed components, in draw order. */
+	FWTComponent[] indexed = new FWTComponent[0];
+	/** Number of indexed components. */
+	int count;
+
+	/** Bounds of the indexed components (local coordinates). */
+	float minX, minY, maxX, maxY;
+	/** Number of cells horizontally and vertically. */
+	int cols, rows;
+	/** Size of a cell. */
+	float cellWidth, cellHeight;
+
+	/** Start of each cell's entries in 'cellItems'. The last value is the total number of entries. */
+	int[] cellStart = new int[1];
+	/** Component indices of each cell, ascending (draw order) within a cell. */
+	int[] cellItems = new int[0];
+
+
+	/** Returns the number of components in this grid. */
+	public int size() {return count;}
+
+
+
+
+
+	//  BUILD
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Rebuilds this grid over the given components. Arrays are reused when large enough. */
+	public void build(ArrayList<FWTComponent> components)
+		{
+			count = components.size();
+			if (indexed.length < count)
+				indexed = new FWTComponent[count];
+			else for (int cc = count; cc < indexed.length; cc++)
+				indexed[cc] = null;
+
+			// Bounds of all components
+			minX = Float.MAX_VALUE; minY = Float.MAX_VALUE;
+			maxX = -Float.MAX_VALUE; maxY = -Float.MAX_VALUE;
+			for (int cc = 0; cc < count; cc++)
+				{
+					FWTComponent comp = components.get(cc);
+					indexed[cc] = comp;
+					Rectangle r = comp.getDimensions();
+					if (r.x < minX) minX = r.x;
+					if (r.y < minY) minY = r.y;
+					if (r.x + r.width > maxX) maxX = r.x + r.width;
+					if (r.y + r.height > maxY) maxY = r.y + r.height;
+				}
+
+			// Roughly one component per cell
+			int side = (int)Math.ceil(Math.sqrt(Math.max(count, 1)));
+			if (side > MAX_CELLS) side = MAX_CELLS;
+			cols = side;
+			rows = side;
+			cellWidth = Math.max((maxX - minX) / cols, 1f);
+			cellHeight = Math.max((maxY - minY) / rows, 1f);
+
+			int cells = cols * rows;
+			if (cellStart.length < cells + 1)
+				cellStart = new int[cells + 1];
+			for (int ii = 0; ii <= cells; ii++)
+				cellStart[ii] = 0;
+
+			// Count entries per cell
+			for (int cc = 0; cc < count; cc++)
+				{
+					Rectangle r = indexed[cc].getDimensions();
+					int c0 = col(r.x), c1 = col(r.x + r.width), r0 = row(r.y), r1 = row(r.y + r.height);
+					for (int yy = r0; yy <= r1; yy++)
+						for (int xx = c0; xx <= c1; xx++)
+							cellStart[yy * cols + xx + 1]++;
+				}
+			for (int ii = 1; ii <= cells; ii++)
+				cellStart[ii] += cellStart[ii - 1];
+
+			// Fill entries (in draw order)
+			if (cellItems.length < cellStart[cells])
+				cellItems = new int[cellStart[cells]];
+			int[] fill = new int[cells];
+			for (int cc = 0; cc < count; cc++)
+				{
+					Rectangle r = indexed[cc].getDimensions();
+					int c0 = col(r.x), c1 = col(r.x + r.width), r0 = row(r.y), r1 = row(r.y + r.height);
+					for (int yy = r0; yy <= r1; yy++)
+						for (int xx = c0; xx <= c1; xx++)
+							{
+								int cell = yy * cols + xx;
+								cellItems[cellStart[cell] + fill[cell]++] = cc;
+							}
+				}
+		}
+
+
+	/** Returns the (clamped) grid column of the given x coordinate. */
+	int col(float x)
+		{
+			int c = (int)((x - minX) / cellWidth);
+			return (c < 0) ? 0 : (c >= cols) ? cols - 1 : c;
+		}
+
+	/** Returns the (clamped) grid row of the given y coordinate. */
+	int row(float y)
+		{
+			int r = (int)((y - minY) / cellHeight);
+			return (r < 0) ? 0 : (r >= rows) ? rows - 1 : r;
+		}
+
+
+
+
+
+	//  QUERY
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Returns the top-most (last drawn) enabled component containing the given local coordinates, or null if none. */
+	public FWTComponent getComponentAt(int lmX, int lmY)
+		{
+			if (count == 0 || lmX < minX || lmY < minY || lmX > maxX || lmY > maxY)
+				return null;
+
+			int cell = row(lmY) * cols + col(lmX);
+			// Reversal through components (opposite of draw order)
+			for (int ii = cellStart[cell + 1] - 1; ii >= cellStart[cell]; ii--)
+				{
+					FWTComponent comp = indexed[cellItems[ii]];
+					if (comp.enabled && comp.contains(lmX, lmY))
+						return comp;
+				}
+			return null;
+		}
+
+
+	/** Releases all component references. */
+	public void clear()
+		{
+			for (int cc = 0; cc < indexed.length; cc++)
+				indexed[cc] = null;
+			count = 0;
+		}
+
+
+
+
+}
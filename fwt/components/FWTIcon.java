@@ -100,6 +100,16 @@ public class FWTIcon extends FWTComponent
 	//  RENDER
 	//********************************************************************
 
+	/** Adds the icon draw. */
+	@Override
+	public int getDrawCost()
+		{
+			int cost = super.getDrawCost();
+			if (iconTexture != null && !iconTexture.isEmpty()) cost++;
+			return cost;
+		}
+
+
 	@Override
 	public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 		{
@@ -109,58 +119,58 @@ public class FWTIcon extends FWTComponent
 				{
 
 					// IF has background
-					if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+					if (!UIRenderer.hasUIImage(getBgImage()))
 						{
 							// Draw fill color
 							if (backgroundColor.a > 0f)
 								{
-									spriteBatch.begin();
+									UIRenderer.begin(spriteBatch);
 									UIRenderer.drawRectangle(spriteBatch,backgroundColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+							UIRenderer.end(spriteBatch);
 						}
 
 				}
 			else // ELSE mouse is over (highlighted)
 				{
 					// IF has no highlighted background
-					if (highlightTexture == null || highlightTexture.isEmpty() || !UIRenderer.hasUIImage(highlightTexture))
+					if (!UIRenderer.hasUIImage(getHighlightImage()))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (highlightColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch,highlightColor,0,0,dims.width,dims.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a highlighted texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, highlightTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getHighlightImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -175,22 +185,22 @@ public class FWTIcon extends FWTComponent
 
 			// Draw border
 			// IF has border
-			if (borderTexture == null || borderTexture.isEmpty() || !UIRenderer.hasUIImage(borderTexture))
+			if (!UIRenderer.hasUIImage(getBorderImage()))
 				{
 					// Draw fill color
 					if (borderColor.a > 0f)
 						{
-							spriteBatch.begin();
-							UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,borderColor,0,0,dims.width,dims.height);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawThinBorder(spriteBatch,borderColor,0,0,dims.width,dims.height);
+							UIRenderer.end(spriteBatch);
 						}
 				}
 			// ELSE has a texture image
 			else
 				{
-					spriteBatch.begin();
-					UIRenderer.drawUIImage(spriteBatch, id, borderTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
-					spriteBatch.end();
+					UIRenderer.begin(spriteBatch);
+					UIRenderer.drawUIImage(spriteBatch, id, getBorderImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
+					UIRenderer.end(spriteBatch);
 				}
 
 
@@ -201,9 +211,9 @@ public class FWTIcon extends FWTComponent
 	/** Draws this image icon.  Can be overridden for more complex overlays. */
 	public void drawIcon(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 		{
-			spriteBatch.begin();
+			UIRenderer.begin(spriteBatch);
 			UIRenderer.drawUIImage(spriteBatch, id, iconTexture, 0, 0, (int)dims.width, (int)dims.height, true, false);
-			spriteBatch.end();
+			UIRenderer.end(spriteBatch);
 		}
 
 
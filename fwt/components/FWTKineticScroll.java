@@ -0,0 +1,112 @@
+package com.arboreantears.fwt.components;
+
+
+
+
+/** Kinetic scrolling along one axis of a scrollable area, integrated from the frame delta.
+ * <p> A scroll is a velocity decaying exponentially at the rate {@link #DECELERATION}, so the distance it travels
+ * (velocity / deceleration) is known when it starts: a scroll of N pixels ends exactly N pixels further, whatever the
+ * frame rate. Scrolls started while another is moving add to its remaining distance.
+ * <br> Positions are fractional, callers round them to whole pixels. Not thread-safe: only use it from the thread
+ * that updates it (the OpenGL thread). */
+public class FWTKineticScroll
+{
+
+	//  VARIABLES
+	//********************************************************************
+	//********************************************************************
+
+	/** Rate at which the scrolling velocity decays [1/s]. Higher values stop sooner. */
+	public static float DECELERATION = 10f;
+
+	/** Remaining distance [pixels] under which a scroll snaps to its end. */
+	public static float SNAP_DISTANCE = 0.5f;
+
+
+	/** Current position. */
+	float position;
+	/** Returns the current position. */
+	public float getPosition() {return position;}
+
+	/** Current velocity [pixels/s]. */
+	float velocity;
+	/** Returns the current velocity [pixels/s]. */
+	public float getVelocity() {return velocity;}
+
+	/** Maximum position (the minimum is 0). */
+	float max;
+
+	/** 'True' while a scroll is moving. */
+	boolean active;
+	/** Returns 'true' while a scroll is moving. */
+	public boolean isActive() {return active;}
+
+
+	/** Returns the position the current scroll stops at (the current position if none). */
+	public float getTarget()
+		{
+			return active ? position + velocity / DECELERATION : position;
+		}
+
+
+
+
+	//  SCROLL
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Scrolls by the given distance, from the end of the scroll in progress or else from the given current position. */
+	public void scrollBy(float current, float distance, float max)
+		{
+			if (!active) position = current;
+			scrollTo(position, getTarget() + distance, max);
+		}
+
+
+	/** Scrolls from the position in progress (or the given current position) to the given target, within [0, max]. */
+	public void scrollTo(float current, float target, float max)
+		{
+			if (!active) position = current;
+			this.max = Math.max(max, 0);
+			target = Math.max(0, Math.min(target, this.max));
+			velocity = (target - position) * DECELERATION;
+			active = Math.abs(target - position) > SNAP_DISTANCE;
+			if (!active) {position = target; velocity = 0;}
+		}
+
+
+	/** Stops the scroll in progress where it is. */
+	public void stop()
+		{
+			active = false;
+			velocity = 0;
+		}
+
+
+
+
+	//  UPDATE
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Advances the scroll in progress by the given time [s] and returns the new position. */
+	public float update(float delta)
+		{
+			if (!active) return position;
+
+			// Exact integration of the decaying velocity over the frame
+			float decay = (float)Math.exp(-DECELERATION * Math.max(delta, 0f));
+			position += velocity * (1f - decay) / DECELERATION;
+			velocity *= decay;
+
+			// Stop at the bounds, or snap to the end when close enough
+			if (position <= 0) {position = 0; stop();}
+			else if (position >= max) {position = max; stop();}
+			else if (Math.abs(velocity) / DECELERATION <= SNAP_DISTANCE)
+				{position += velocity / DECELERATION; stop();}
+			return position;
+		}
+
+}
@@ -4,6 +4,7 @@ import com.arboreantears.fwt.Direction;
 import com.arboreantears.fwt.FWTController;
 import com.arboreantears.fwt.Fonts;
 import com.arboreantears.fwt.Language;
+import com.arboreantears.fwt.UIRenderer;
 import com.arboreantears.fwt.XMLDataPacket;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -381,6 +382,15 @@ public class FWTLabel extends FWTComponent
 	//  DRAW
 	//********************************************************************
 
+	/** Adds one draw per line of text. */
+	@Override
+	public int getDrawCost()
+		{
+			if (font == null || getLabelString() == null) return super.getDrawCost();
+			return super.getDrawCost() + Math.max((glyphs == null) ? 1 : glyphs.runs.size, 1);
+		}
+
+
 	/** Draws the button according to its current properties. */
 	public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 	{
@@ -396,7 +406,7 @@ public class FWTLabel extends FWTComponent
 				if (needsGlyphUpdate) updateGlyphs();
 				
 				// Draw Label
-				spriteBatch.begin();
+				UIRenderer.begin(spriteBatch);
 				font.getData().markupEnabled = markupEnabled;
 
 				try {
@@ -428,7 +438,7 @@ public class FWTLabel extends FWTComponent
 				}
 				}catch (Exception ex) {ex.printStackTrace();}
 				font.getData().markupEnabled = false;
-				spriteBatch.end();
+				UIRenderer.end(spriteBatch);
 			}
 
 
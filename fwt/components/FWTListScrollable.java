@@ -1,6 +1,8 @@
 package com.arboreantears.fwt.components;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map.Entry;
 
 import com.arboreantears.fwt.FWTController;
@@ -95,13 +97,17 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 	public void addComponentToList(E component)
 		{
 			componentList.add(component);
-			needsListUpdate = true;
+			notifyItemInserted(componentList.size()-1);
 		}
 	/** Removes the given component from the component list. Automatically updates the list. */
 	public void removeComponentFromList(E component)
 		{
-			componentList.remove(component);
-			needsListUpdate = true;
+			int index = componentList.indexOf(component);
+			if (index >= 0)
+				{
+					componentList.remove(index);
+					notifyItemRemoved(index);
+				}
 		}
 
 
@@ -114,6 +120,51 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 
 
 
+	// Virtualization
+	//-------------------------
+
+	/** 'True' if only the list components in view (plus an overscan margin) are created, recycling them while scrolling. */
+	boolean virtualized;
+	/** Returns 'true' if only the list components in view (plus an overscan margin) are created. */
+	public boolean isVirtualized() {return virtualized;}
+	/** Sets if only the list components in view (plus an overscan margin) are created. Repopulates the list. */
+	public void setVirtualized(boolean virtualized) {this.virtualized = virtualized; needsResize = true; needsListUpdate = true;}
+
+	/** Number of extra rows (or columns) created beyond each side of the view when virtualized. */
+	int overscan;
+	/** Returns the number of extra rows (or columns) created beyond each side of the view when virtualized. */
+	public int getOverscan() {return overscan;}
+	/** Sets the number of extra rows (or columns) created beyond each side of the view when virtualized. */
+	public void setOverscan(int overscan) {this.overscan = Math.max(overscan, 0); lastLine = -1;}
+
+	/** Created list components by slot. */
+	HashMap<Integer,T> slotComponents;
+	/** List components that left the view, to be rebound to the slots entering it. */
+	ArrayList<T> recycledComponents;
+
+	/** Slot layout: slot size (including the gap), slots per row (or column) and number of rows (or columns). */
+	int slotWidth, slotHeight, slotsPerLine, lineCount;
+	/** Number of list elements at the last layout. */
+	int itemCount;
+	/** Range of rows (or columns) currently created when virtualized. */
+	int firstLine, lastLine;
+	/** Slot bounds storage. */
+	private final Rectangle slotBounds = new Rectangle();
+
+
+
+	// Incremental Updates
+	//-------------------------
+
+	/** List change notification types. */
+	private static final int INSERTED = 0, REMOVED = 1, MOVED = 2, CHANGED = 3;
+	/** List change notifications (type, index, target index) waiting for the next update. */
+	ArrayList<int[]> pendingChanges;
+	/** New list data waiting to be matched to the current components on the next update (null if none). */
+	ArrayList<E> pendingListData;
+
+
+
 
 
 
@@ -164,6 +215,8 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 	@Override
 	public void refreshData()
 		{
+			disposeRecycled();
+			slotComponents.clear();
 			this.clearComponents();
 			this.components.clear();
 			super.refreshData();
@@ -179,6 +232,13 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 			componentHeight = "10";	
 			orientation = true;
 			componentData = new XMLDataPacket();
+			virtualized = false;
+			overscan = 2;
+			slotComponents = new HashMap<Integer,T>();
+			recycledComponents = new ArrayList<T>();
+			pendingChanges = new ArrayList<int[]>();
+			firstLine = 0;
+			lastLine = -1;
 		}
 	
 
@@ -237,6 +297,20 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 								else setListVertical(); 
 							}
 
+						// VIRTUALIZED
+						//========================
+						if (data.get("virtualized") != null)
+							{
+								this.virtualized = data.getBoolean("virtualized");
+							}
+
+						// OVERSCAN
+						//========================
+						if (data.get("overscan") != null)
+							{
+								this.overscan = Math.max(data.getInt("overscan"), 0);
+							}
+
 
 						// Component Properties
 						//--------------------------------------------------------------
@@ -341,17 +415,41 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 			super.update();
 
 			if (needsListUpdate)
-				{needsListUpdate = false; updateList();}
+				{
+					needsListUpdate = false;
+					// A rebuild covers the pending changes
+					synchronized (pendingChanges)
+						{
+							pendingChanges.clear();
+							if (pendingListData != null) componentList = pendingListData;
+							pendingListData = null;
+						}
+					updateList();
+				}
+			else if (hasPendingChanges())
+				applyListChanges();
+			// Follow the view while scrolling
+			else if (virtualized)
+				updateVisibleSlots();
 
 		}
 
 
+	/** Virtualized lists only buffer their visible area. */
+	@Override
+	protected boolean isViewportBuffered() {return virtualized || super.isViewportBuffered();}
+
+
 	/** Updates the elements of the list using the current component list with the given expected number of list components. */
 	private void updateList()
 		{
 			if (FWTWindowManager.DEBUG_MODE) FWTController.log("ListScrollable: "+this.name+": Component List Updated");
 
+			if (virtualized)
+				{updateVirtualList(); return;}
+
 			// Clear components
+			slotComponents.clear();
 			this.clearComponents();
 			this.components.clear();
 
@@ -368,6 +466,7 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 
 					// Number of rows
 					int numRows = Math.max(1, (int)Math.ceil((float)componentList.size() / (float)numPerRow));
+					recordSlotLayout(compWidth, compHeight, numPerRow);
 
 					// Set new virtual height
 					int newHeight = (numRows * compHeight) + gapDistance;
@@ -387,37 +486,20 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 					this.setShowHorizontalBar(false);
 
 
-					int X = gapDistance, Y = (int)this.getVirtualDimensions().getHeight() - compHeight;
-
-					// FOR each component in list
-					int count = 0;
+					// FOR each component in list (placed by list index, as incremental updates do)
 					for (int ll=0; ll<componentList.size(); ll++)
 						{
-							// Change position of slot
-							if (count != 0)
-								{
-									X = X + compWidth;
-									if ((count % numPerRow) == 0)
-										{
-											X = gapDistance;
-											Y = Y - (compHeight);
-										}
-								}
-
 							// Prepare component data
 							XMLDataPacket compData = componentData.clone();
-							compData.put("name", this.getData().get("compname")+ll);
+							putSlotData(compData, ll, getSlotBounds(ll, slotBounds));
 							compData.put("pwidth", Integer.toString((int)this.getVirtualDimensions().width));
 							compData.put("pheight", Integer.toString((int)this.getVirtualDimensions().height));
 							compData.put("depth", Integer.toString(3));
-							compData.put("width", Integer.toString(compWidth));
-							compData.put("height", Integer.toString(compHeight-gapDistance));
-							compData.put("position", Integer.toString(X)+"|"+Integer.toString(Y));		
-							
+
 							// Create new component
 							T newComp = createNewListComponent(compData, componentList.get(ll), ll);
 							if (newComp != null)
-								{this.addComponent(newComp); count++;}
+								{this.addComponent(newComp); slotComponents.put(ll, newComp);}
 
 						}
 				}		
@@ -435,6 +517,7 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 
 					// Number of columns
 					int numCols = Math.max(1, (int)Math.ceil((float)componentList.size() / (float)numPerCol));
+					recordSlotLayout(compWidth, compHeight, numPerCol);
 
 					// Set new virtual width
 					int newWidth = (numCols * compWidth) + gapDistance;
@@ -453,38 +536,20 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 					else this.setShowHorizontalBar(true);
 					this.setShowVerticalBar(false);
 
-					int X = gapDistance, Y = (int)this.getVirtualDimensions().getHeight() - compHeight;
-
-					// FOR each component in list
-					int count = 0;
+					// FOR each component in list (placed by list index, as incremental updates do)
 					for (int ll=0; ll<componentList.size(); ll++)
 						{
-							// Change position of slot
-							if (count != 0)
-								{
-									Y = Y - compHeight;
-									if ((count % numPerCol) == 0)
-										{
-											Y = (int)this.getVirtualDimensions().getHeight() - compHeight;
-											X = X + (compWidth);
-										}
-								}
-
 							// Prepare component data
 							XMLDataPacket compData = componentData.clone();
-							compData.put("name", this.getData().get("compname")+ll);
-							compData.put("cnum", Integer.toString(ll));		
+							putSlotData(compData, ll, getSlotBounds(ll, slotBounds));
 							compData.put("pwidth", Integer.toString((int)this.getVirtualDimensions().width));
 							compData.put("pheight", Integer.toString((int)this.getVirtualDimensions().height));
 							compData.put("depth", Integer.toString(3));
-							compData.put("width", Integer.toString(compWidth - gapDistance));
-							compData.put("height", Integer.toString(compHeight));
-							compData.put("position", Integer.toString(X)+"|"+Integer.toString(Y));	
 
 							// Create new component
-							T newComp = createNewListComponent(compData,componentList.get(ll), ll);
+							T newComp = createNewListComponent(compData, componentList.get(ll), ll);
 							if (newComp != null)
-								{this.addComponent(newComp); count++;}
+								{this.addComponent(newComp); slotComponents.put(ll, newComp);}
 
 						}
 				}
@@ -496,7 +561,7 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 
 
 	/** Creates a new component for this list scrollable with the given component data packet, list-data element, and slot number. 
-	 * <br> This component is automatically added to the scrollable's drawable area.*/
+	 * <br> This component is automatically added to the scrollable's drawable area. Returning null leaves its slot empty.*/
 	public T createNewListComponent(XMLDataPacket compData, E listData, int slot)
 		{
 			// Other behavior expected to be overridden by a specific implementations.
@@ -504,6 +569,428 @@ public class FWTListScrollable<E, T extends FWTComponent> extends FWTScrollable
 		}
 
 
+	/** Rebinds a list component that scrolled out of view to the given list-data element and slot number (virtualized lists only).
+	 * <br> The component's data packet already holds its new name and position. Returns 'false' if the component can't be
+	 * reused, in which case it is disposed and createNewListComponent() is called instead. */
+	public boolean rebindListComponent(T component, E listData, int slot)
+		{
+			// Expected to be overridden by implementations supporting recycling.
+			return false;
+		}
+
+
+
+
+	//  LIST SLOTS
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Lays out the virtual area of the whole list, then creates the list components in view. */
+	private void updateVirtualList()
+		{
+			// Keep the created components for reuse
+			if (slotComponents.size() != components.size())
+				{slotComponents.clear(); this.clearComponents();}
+			recycleSlots(0, -1);
+
+			layoutSlots();
+			if (this.orientation)
+				this.setVerticalScroll(this.getVirtualDimensions().height);
+			else
+				this.setHorizontalScroll(0);
+
+			// Set to resize and redraw
+			this.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+			this.resizeScrollComponents();
+			updateBarVisibility();
+
+			// Create the components in view
+			firstLine = 0;
+			lastLine = -1;
+			updateVisibleSlots();
+			disposeRecycled();
+			this.redraw();
+		}
+
+
+	/** Computes the slot layout and the virtual size of the list from its size and list data. Resets the scroll position. */
+	private void layoutSlots()
+		{
+			itemCount = componentList.size();
+
+			// IF Vertical scrolling
+			if (this.orientation)
+				{
+					int scrollWidth = ((int)this.getDimensions().width) - this.getBarSize();
+					slotHeight = Math.max(1, getComponentHeightFromData(componentHeight,!this.orientation) + gapDistance);
+					slotWidth = Math.max(1, getComponentWidthFromData(componentWidth,this.orientation));
+					slotsPerLine = Math.max(1, (scrollWidth - gapDistance) / slotWidth);
+					lineCount = (itemCount + slotsPerLine - 1) / slotsPerLine;
+
+					int newHeight = (Math.max(1, lineCount) * slotHeight) + gapDistance;
+					this.setVirtualDimensions(new Rectangle(0f,0f, this.getVirtualDimensions().width, Math.max(this.getDimensions().height, newHeight)));
+				}
+			// ELSE horizontal scrolling
+			else
+				{
+					int scrollHeight = ((int)this.getDimensions().height) - this.getBarSize();
+					slotHeight = Math.max(1, getComponentHeightFromData(componentHeight,!this.orientation));
+					slotWidth = Math.max(1, getComponentWidthFromData(componentWidth,this.orientation) + gapDistance);
+					slotsPerLine = Math.max(1, (scrollHeight - gapDistance) / slotHeight);
+					lineCount = (itemCount + slotsPerLine - 1) / slotsPerLine;
+
+					int newWidth = (Math.max(1, lineCount) * slotWidth) + gapDistance;
+					this.setVirtualDimensions(new Rectangle(0f,0f, Math.max(this.getDimensions().width, newWidth), this.getVirtualDimensions().height));
+				}
+		}
+
+
+	/** Records the slot layout of a list laid out with all its components. */
+	private void recordSlotLayout(int width, int height, int perLine)
+		{
+			itemCount = componentList.size();
+			slotWidth = Math.max(1, width);
+			slotHeight = Math.max(1, height);
+			slotsPerLine = Math.max(1, perLine);
+			lineCount = (itemCount + slotsPerLine - 1) / slotsPerLine;
+		}
+
+
+	/** Shows the scroll bar of the list orientation only if the list is larger than its view. */
+	private void updateBarVisibility()
+		{
+			this.setShowVerticalBar(this.orientation && this.getVirtualDimensions().height > this.getDimensions().height);
+			this.setShowHorizontalBar(!this.orientation && this.getVirtualDimensions().width > this.getDimensions().width);
+		}
+
+
+	/** Creates the list components of the rows (or columns) entering the view and recycles those leaving it. */
+	private void updateVisibleSlots()
+		{
+			if (slotsPerLine < 1) return;
+
+			// Lines in view, plus the overscan margin
+			int first, last;
+			if (this.orientation)
+				{
+					// Rows are laid out from the top of the virtual area
+					float top = virtualDimensions.height - virtualDimensions.y - dims.height;
+					first = (int)Math.floor(top / slotHeight);
+					last = (int)Math.floor((top + dims.height) / slotHeight);
+				}
+			else
+				{
+					first = (int)Math.floor((virtualDimensions.x - gapDistance) / slotWidth);
+					last = (int)Math.floor((virtualDimensions.x + dims.width - gapDistance) / slotWidth);
+				}
+			first = Math.max(first - overscan, 0);
+			last = Math.min(last + overscan, lineCount - 1);
+
+			// IF unchanged
+			if (first == firstLine && last == lastLine)
+				return;
+
+			// Lines leaving the view release their components, then lines entering it rebind them
+			recycleSlots(first, last);
+			for (int line = first; line <= last; line++)
+				{
+					for (int slot = line * slotsPerLine; slot < Math.min((line+1) * slotsPerLine, itemCount); slot++)
+						{
+							if (!slotComponents.containsKey(slot))
+								bindSlot(slot);
+						}
+				}
+			firstLine = first;
+			lastLine = last;
+			disposeRecycled();
+		}
+
+
+	/** Removes the components of the slots outside of the given range of lines, keeping them for reuse. */
+	private void recycleSlots(int first, int last)
+		{
+			Iterator<Entry<Integer,T>> itrS = slotComponents.entrySet().iterator();
+			while (itrS.hasNext())
+				{
+					Entry<Integer,T> entry = itrS.next();
+					int line = entry.getKey() / slotsPerLine;
+					if (line < first || line > last)
+						{
+							this.removeComponent(entry.getValue());
+							recycledComponents.add(entry.getValue());
+							itrS.remove();
+						}
+				}
+		}
+
+
+	/** Sets the given rectangle to the bounds of the given slot in the virtual area. */
+	private Rectangle getSlotBounds(int slot, Rectangle bounds)
+		{
+			int line = slot / slotsPerLine;
+			int index = slot % slotsPerLine;
+			if (this.orientation)
+				bounds.set(gapDistance + (index * slotWidth), (int)virtualDimensions.height - ((line+1) * slotHeight),
+						slotWidth, slotHeight - gapDistance);
+			else
+				bounds.set(gapDistance + (line * slotWidth), (int)virtualDimensions.height - ((index+1) * slotHeight),
+						slotWidth - gapDistance, slotHeight);
+			return bounds;
+		}
+
+
+	/** Sets the name and bounds of the given slot in the given component data packet. */
+	private void putSlotData(XMLDataPacket compData, int slot, Rectangle bounds)
+		{
+			compData.put("name", this.getData().get("compname")+slot);
+			compData.put("cnum", Integer.toString(slot));
+			compData.put("width", Integer.toString((int)bounds.width));
+			compData.put("height", Integer.toString((int)bounds.height));
+			compData.put("position", Integer.toString((int)bounds.x)+"|"+Integer.toString((int)bounds.y));
+		}
+
+
+	/** Creates (or rebinds a recycled) list component for the given slot. */
+	private void bindSlot(int slot)
+		{
+			Rectangle bounds = getSlotBounds(slot, slotBounds);
+			E listData = componentList.get(slot);
+
+			// Reuse a component that left the view
+			T comp = null;
+			if (!recycledComponents.isEmpty())
+				{
+					T old = recycledComponents.remove(recycledComponents.size()-1);
+					putSlotData(old.getData(), slot, bounds);
+					old.setName(old.getData().get("name"));
+					if (rebindListComponent(old, listData, slot))
+						comp = old;
+					else
+						old.dispose();
+				}
+
+			// ELSE create a new component
+			if (comp == null)
+				{
+					XMLDataPacket compData = componentData.clone();
+					putSlotData(compData, slot, bounds);
+					compData.put("pwidth", Integer.toString((int)this.getVirtualDimensions().width));
+					compData.put("pheight", Integer.toString((int)this.getVirtualDimensions().height));
+					compData.put("depth", Integer.toString(3));
+					comp = createNewListComponent(compData, listData, slot);
+				}
+
+			if (comp != null)
+				{
+					this.addComponent(comp);
+					slotComponents.put(slot, comp);
+				}
+		}
+
+
+	/** Moves the given created list component to the given slot, if it moved. */
+	private void placeSlot(T comp, int slot)
+		{
+			Rectangle bounds = getSlotBounds(slot, slotBounds);
+			putSlotData(comp.getData(), slot, bounds);
+			comp.setName(comp.getData().get("name"));
+			Rectangle current = comp.getDimensions();
+			if (current == null || !current.equals(bounds))
+				comp.resize(new Rectangle(bounds));
+		}
+
+
+	/** Disposes the recycled components that were not reused. */
+	private void disposeRecycled()
+		{
+			for (T comp : recycledComponents)
+				comp.dispose();
+			recycledComponents.clear();
+		}
+
+
+
+
+	//  INCREMENTAL UPDATES
+	//********************************************************************
+	//********************************************************************
+
+
+	/** Notifies that an element was inserted in the list data at the given index. Applied on the next update. */
+	public void notifyItemInserted(int index) {queueChange(INSERTED, index, index);}
+
+	/** Notifies that the element at the given index was removed from the list data. Applied on the next update. */
+	public void notifyItemRemoved(int index) {queueChange(REMOVED, index, index);}
+
+	/** Notifies that an element of the list data moved between the given indices. Applied on the next update. */
+	public void notifyItemMoved(int fromIndex, int toIndex) {queueChange(MOVED, fromIndex, toIndex);}
+
+	/** Notifies that the element at the given index changed. Its component is rebound on the next update. */
+	public void notifyItemChanged(int index) {queueChange(CHANGED, index, index);}
+
+
+	/** Replaces the list data with the given list. On the next update, the old and new elements are matched by
+	 * getListDataKey(): components of kept elements are moved to their new slots (and rebound if isListDataChanged()),
+	 * components of removed elements are reused or disposed and only new elements get new components. */
+	public void updateComponentListData(ArrayList<E> list)
+		{
+			synchronized (pendingChanges)
+				{pendingListData = list;}
+		}
+
+
+	/** Returns the key matching the given element between the old and new list data of updateComponentListData().
+	 * <br> By default the element itself (compared with equals()). */
+	protected Object getListDataKey(E listData) {return listData;}
+
+	/** Returns 'true' if the component of a kept element must be rebound to its new element in updateComponentListData().
+	 * <br> By default, if the element is a different object. */
+	protected boolean isListDataChanged(E oldListData, E newListData) {return oldListData != newListData;}
+
+
+	/** Queues the given list change notification. */
+	private void queueChange(int type, int index, int toIndex)
+		{
+			synchronized (pendingChanges)
+				{pendingChanges.add(new int[] {type, index, toIndex});}
+		}
+
+
+	/** Returns 'true' if list change notifications or new list data are waiting. */
+	private boolean hasPendingChanges()
+		{
+			synchronized (pendingChanges)
+				{return !pendingChanges.isEmpty() || pendingListData != null;}
+		}
+
+
+	/** Applies the pending list change notifications and new list data to the created components. */
+	private void applyListChanges()
+		{
+			ArrayList<int[]> changes;
+			ArrayList<E> newListData;
+			synchronized (pendingChanges)
+				{
+					changes = new ArrayList<int[]>(pendingChanges);
+					pendingChanges.clear();
+					newListData = pendingListData;
+					pendingListData = null;
+				}
+
+			// Components by list index, and the indices to rebind
+			ArrayList<T> items = new ArrayList<T>(itemCount);
+			ArrayList<Boolean> changed = new ArrayList<Boolean>(itemCount);
+			for (int ii = 0; ii < itemCount; ii++)
+				{items.add(slotComponents.get(ii)); changed.add(Boolean.FALSE);}
+			slotComponents.clear();
+
+			try {
+				// Replay the notifications
+				for (int[] change : changes)
+					{
+						switch (change[0])
+							{
+								case INSERTED: items.add(change[1], null); changed.add(change[1], Boolean.FALSE); break;
+								case REMOVED: recycle(items.remove(change[1])); changed.remove(change[1]); break;
+								case MOVED: items.add(change[2], items.remove(change[1])); changed.add(change[2], changed.remove(change[1])); break;
+								case CHANGED: changed.set(change[1], Boolean.TRUE); break;
+							}
+					}
+			}catch (IndexOutOfBoundsException ex)
+				{
+					FWTController.error("ListScrollable: "+this.name+": Invalid list change notification, rebuilding list.");
+					items.clear();
+				}
+
+			// Notifications must describe the current list data
+			if (items.size() != componentList.size())
+				{
+					for (T comp : items) recycle(comp);
+					disposeRecycled();
+					if (newListData != null) componentList = newListData;
+					updateList();
+					return;
+				}
+
+			// Match the new list data by key
+			if (newListData != null)
+				{
+					HashMap<Object,Integer> oldIndices = new HashMap<Object,Integer>();
+					for (int ii = componentList.size()-1; ii >= 0; ii--)
+						oldIndices.put(getListDataKey(componentList.get(ii)), ii);
+
+					ArrayList<T> newItems = new ArrayList<T>(newListData.size());
+					ArrayList<Boolean> newChanged = new ArrayList<Boolean>(newListData.size());
+					for (E listData : newListData)
+						{
+							Integer oldIndex = oldIndices.remove(getListDataKey(listData));
+							if (oldIndex != null)
+								{
+									newItems.add(items.set(oldIndex, null));
+									newChanged.add(changed.get(oldIndex) || isListDataChanged(componentList.get(oldIndex), listData));
+								}
+							else
+								{newItems.add(null); newChanged.add(Boolean.FALSE);}
+						}
+					// Elements no longer in the list
+					for (T comp : items) recycle(comp);
+
+					componentList = newListData;
+					items = newItems;
+					changed = newChanged;
+				}
+
+			// Re-layout, keeping the scroll position
+			float scrollTop = virtualDimensions.height - virtualDimensions.y;
+			float scrollLeft = virtualDimensions.x;
+			layoutSlots();
+			if (this.orientation)
+				this.setVerticalScroll(virtualDimensions.height - scrollTop);
+			else
+				this.setHorizontalScroll(scrollLeft);
+			needsResize = true;
+			this.resizeScrollComponents();
+			updateBarVisibility();
+
+			// Move the kept components to their slots, then rebind the changed ones
+			for (int ii = 0; ii < items.size(); ii++)
+				{
+					T comp = items.get(ii);
+					if (comp == null) continue;
+					placeSlot(comp, ii);
+					if (changed.get(ii) && !rebindListComponent(comp, componentList.get(ii), ii))
+						{this.removeComponent(comp); comp.dispose(); continue;}
+					slotComponents.put(ii, comp);
+				}
+
+			// Create the components of new elements
+			if (virtualized)
+				{
+					firstLine = 0;
+					lastLine = -1;
+					updateVisibleSlots();
+				}
+			else
+				{
+					for (int ii = 0; ii < itemCount; ii++)
+						if (!slotComponents.containsKey(ii))
+							bindSlot(ii);
+				}
+			disposeRecycled();
+			this.redraw();
+		}
+
+
+	/** Removes the given list component (if any), keeping it for reuse. */
+	private void recycle(T comp)
+		{
+			if (comp == null) return;
+			this.removeComponent(comp);
+			recycledComponents.add(comp);
+		}
+
+
 
 
 
@@ -0,0 +1,115 @@
+package com.arboreantears.fwt.components;
+
+import java.util.ArrayList;
+
+import com.arboreantears.fwt.FWTProfiler;
+import com.arboreantears.fwt.XMLDataPacket;
+
+/** A FWT Window showing the frame profiler's counters (and detailed timings when sampling) in a label. */
+public class FWTProfilerWindow extends FWTWindow
+{
+
+	// VARIABLES
+	// ********************************************************************
+	// ********************************************************************
+
+	/** Name of the profiler window. */
+	public static final String NAME = "fwt-profiler";
+
+	/** Frames between refreshes of the displayed values. */
+	public static int REFRESH_FRAMES = 30;
+
+	/** The label showing the profiler report. */
+	FWTLabel report;
+
+	/** Frame count of the last refresh. */
+	long lastRefresh = -1;
+	/** Profiling mode at the last refresh. */
+	FWTProfiler.Mode lastMode;
+
+	/** Report text storage. */
+	private final StringBuilder text = new StringBuilder();
+
+
+
+	// CONSTRUCTOR
+	// ********************************************************************
+	// ********************************************************************
+
+	/** Create a new profiler window with the given size, locked to the top-right corner of the screen. */
+	public FWTProfilerWindow(int width, int height)
+		{
+			super(createData(width, height));
+
+			XMLDataPacket labelData = new XMLDataPacket();
+			labelData.put("name", NAME+"-report");
+			labelData.put("position", "topleft");
+			labelData.putInt("width", width-20);
+			labelData.putInt("height", height-30);
+			labelData.putInt("fontsize", 14);
+			labelData.put("fontcolor", "1|1|1|1");
+			labelData.put("border", "false");
+			labelData.put("backgroundcolor", "0|0|0|0");
+			report = new FWTLabel(labelData);
+			addComponent(report);
+
+			// Never takes keyboard focus or the front layer from the application's windows
+			setFocusable(false);
+		}
+
+
+	/** Returns the window data of a profiler window with the given size. */
+	private static XMLDataPacket createData(int width, int height)
+		{
+			XMLDataPacket data = new XMLDataPacket();
+			data.put("name", NAME);
+			data.put("title", "Profiler");
+			data.put("position", "topright");
+			data.putInt("width", width);
+			data.putInt("height", height);
+			data.put("backgroundcolor", "0|0|0|0.7");
+			data.put("closeable", "true");
+			return data;
+		}
+
+
+
+	//  UPDATE
+	//********************************************************************
+	//********************************************************************
+
+	@Override
+	public void update()
+		{
+			super.update();
+
+			// Refresh every few frames (the label redraw is not free), or when the mode changes: frames stop when OFF
+			long frames = FWTProfiler.getFrameCount();
+			FWTProfiler.Mode mode = FWTProfiler.getMode();
+			if (lastRefresh >= 0 && mode == lastMode && frames - lastRefresh < REFRESH_FRAMES)
+				return;
+			lastRefresh = frames;
+			lastMode = mode;
+
+			text.setLength(0);
+			if (!FWTProfiler.isEnabled())
+				text.append("Profiler disabled");
+			else
+				{
+					appendLines(FWTProfiler.getSummary());
+					appendLines(FWTProfiler.getDetailedReport());
+				}
+			report.setLabelText(text.toString());
+		}
+
+	/** Appends the given lines to the report text. */
+	private void appendLines(ArrayList<String> lines)
+		{
+			for (String line : lines)
+				{
+					if (text.length() > 0) text.append('\n');
+					text.append(line);
+				}
+		}
+
+}
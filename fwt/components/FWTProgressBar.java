@@ -251,6 +251,16 @@ public class FWTProgressBar extends FWTComponent
 	//  RENDER
 	//********************************************************************
 
+	/** Adds the bar and text label draws. */
+	@Override
+	public int getDrawCost()
+		{
+			int cost = super.getDrawCost() + 1;
+			if (showProgressPercentage || getLabelString() != null) cost++;
+			return cost;
+		}
+
+
 	@Override
 	public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 		{
@@ -262,32 +272,32 @@ public class FWTProgressBar extends FWTComponent
 				{
 					if (isVertical)
 						{
-							spriteBatch.begin();
+							UIRenderer.begin(spriteBatch);
 							UIRenderer.drawUIImage(spriteBatch, id, barTexture, 0, 0, 
 									(int)(getDimensions().width),(int)(getDimensions().height*progress), scaleTexture, tileTexture);
-							spriteBatch.end();
+							UIRenderer.end(spriteBatch);
 						}
 					else
 						{
-							spriteBatch.begin();
+							UIRenderer.begin(spriteBatch);
 							UIRenderer.drawUIImage(spriteBatch, id, barTexture, 0, 0, 
 									(int)(getDimensions().width*progress),(int)(getDimensions().height), scaleTexture, tileTexture);
-							spriteBatch.end();
+							UIRenderer.end(spriteBatch);
 						}
 				}
 			else if (barColor.a > 0f)
 				{
 					if (isVertical)
 						{
-							spriteBatch.begin();
+							UIRenderer.begin(spriteBatch);
 							UIRenderer.drawRectangle(spriteBatch,barColor,0,0,getDimensions().width,getDimensions().height*progress);
-							spriteBatch.end();
+							UIRenderer.end(spriteBatch);
 						}
 					else
 						{
-							spriteBatch.begin();
+							UIRenderer.begin(spriteBatch);
 							UIRenderer.drawRectangle(spriteBatch,barColor,0,0,getDimensions().width*progress,getDimensions().height);
-							spriteBatch.end();
+							UIRenderer.end(spriteBatch);
 						}
 				}
 			
@@ -295,7 +305,7 @@ public class FWTProgressBar extends FWTComponent
 			// Draw text labels
 			if (showProgressPercentage || getLabelString() != null)
 				{
-					spriteBatch.begin();
+					UIRenderer.begin(spriteBatch);
 					font.setColor(drawFontColor);
 					if (showProgressPercentage && getLabelString() != null)
 						font.draw(spriteBatch, String.format("%3.0f", progress*100f)+" % "+getLabelString(), dims.width*0.1f, (dims.height/2)-font.getDescent());
@@ -303,7 +313,7 @@ public class FWTProgressBar extends FWTComponent
 						font.draw(spriteBatch,String.format("%3.0f", progress*100f)+" %", dims.width*0.1f, (dims.height/2)-font.getDescent());
 					else 
 						font.draw(spriteBatch, getLabelString(), dims.width*0.1f, (dims.height/2)-font.getDescent());
-					spriteBatch.end();
+					UIRenderer.end(spriteBatch);
 				}
 
 
@@ -315,22 +325,22 @@ public class FWTProgressBar extends FWTComponent
 
 		// Draw border
 		// IF has border
-		if (borderTexture == null || borderTexture.isEmpty() || !UIRenderer.hasUIImage(borderTexture))
+		if (!UIRenderer.hasUIImage(getBorderImage()))
 			{
 				// Draw fill color
 				if (borderColor.a > 0f)
 					{
-						spriteBatch.begin();
-						UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,borderColor,0,0,dims.width,dims.height);
-						spriteBatch.end();
+						UIRenderer.begin(spriteBatch);
+						UIRenderer.drawThinBorder(spriteBatch,borderColor,0,0,dims.width,dims.height);
+						UIRenderer.end(spriteBatch);
 					}
 			}
 		// ELSE has a texture image
 		else
 			{
-				spriteBatch.begin();
-				UIRenderer.drawUIImage(spriteBatch, id, borderTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
-				spriteBatch.end();
+				UIRenderer.begin(spriteBatch);
+				UIRenderer.drawUIImage(spriteBatch, id, getBorderImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, tileTexture);
+				UIRenderer.end(spriteBatch);
 			}
 
 	}
@@ -1,9 +1,14 @@
 package com.arboreantears.fwt.components;
 
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.arboreantears.fwt.FWTColors;
 import com.arboreantears.fwt.FWTController;
+import com.arboreantears.fwt.FWTProfiler;
+import com.arboreantears.fwt.FWTProfiler.Counter;
+import com.arboreantears.fwt.FWTProfiler.Phase;
+import com.arboreantears.fwt.FWTUIBuffer;
 import com.arboreantears.fwt.FWTUIFrameBufferController;
 import com.arboreantears.fwt.FWTWindowManager;
 import com.arboreantears.fwt.UIRenderer;
@@ -12,9 +17,7 @@ import com.arboreantears.fwt.events.FWTInputException;
 import com.arboreantears.fwt.events.FWTInputReceiver;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Keys;
-import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 
@@ -82,7 +85,27 @@ public class FWTScrollPanel extends FWTContainer
 
 			// Update scroll position immediately
 			updateScrollPosition();
-			this.redraw();
+			redrawScrolled();
+		}
+
+
+	/** Scrolls the scroll panel like scroll(), kinetically over the next frames if smooth scrolling. */
+	public void smoothScroll(int amount)
+		{
+			if (!smoothScrolling) {scroll(amount); return;}
+			// Applied on the OpenGL thread by the next update
+			pendingScroll.addAndGet(orientation ? -amount : amount);
+			markParentsDirty();
+		}
+
+
+	/** Marks this panel for drawing after its scroll position changed. Viewport buffers are moved on the next render
+	 * (copying the part still in view), other buffers are only blitted from the new position while it stays within
+	 * their drawn area, and redrawn otherwise. */
+	protected void redrawScrolled()
+		{
+			if (isViewportBuffered() || isViewDrawn()) markParentsDirty();
+			else redraw();
 		}
 
 
@@ -180,6 +203,41 @@ public class FWTScrollPanel extends FWTContainer
 	public void setWheelScrolling(boolean ws) {wheelScrolling = ws;}
 
 
+	// Viewport Buffer
+	//----------------------------------
+
+	/** 'True' if this panel's back buffer only holds its visible area. */
+	boolean viewportBuffer;
+	/** Returns 'true' if this panel's back buffer is set to only hold its visible area. */
+	public boolean isViewportBuffer() {return viewportBuffer;}
+	/** Sets if this panel's back buffer only holds its visible area. */
+	public void setViewportBuffer(boolean vb) {viewportBuffer = vb; redraw();}
+
+	/** 'True' if the current back buffer was sized to the visible area. */
+	boolean bufferedViewport;
+
+	/** Area of the whole-area buffer drawn at its last full redraw. */
+	private final Rectangle drawnArea = new Rectangle();
+
+
+	// Smooth Scrolling
+	//----------------------------------
+
+	/** 'True' if wheel, key and page scrolling is kinetic (animated from the frame delta) instead of immediate. */
+	volatile boolean smoothScrolling;
+	/** Returns 'true' if wheel, key and page scrolling is kinetic instead of immediate. */
+	public boolean isSmoothScrolling() {return smoothScrolling;}
+	/** Sets if wheel, key and page scrolling is kinetic instead of immediate. A scroll in progress stops on the next update. */
+	public void setSmoothScrolling(boolean ss) {smoothScrolling = ss; if (!ss) markParentsDirty();}
+
+	/** Scroll distance requested from the input thread, not yet applied to the kinetic scroll. */
+	private final AtomicInteger pendingScroll = new AtomicInteger();
+	/** Kinetic scroll along the panel's orientation. Only used on the OpenGL thread. */
+	FWTKineticScroll kinetic;
+	/** Virtual position last set by the kinetic scroll. A different position means it was moved otherwise (e.g. dragged). */
+	float kineticPos;
+
+
 	// Scroll Amount
 	//----------------------------------
 
@@ -239,6 +297,8 @@ public class FWTScrollPanel extends FWTContainer
 			maxSize = 0;
 			wheelScrolling = true;		
 			scrollAmount = -1;			
+			smoothScrolling = false;
+			kinetic = new FWTKineticScroll();
 		}
 
 
@@ -278,9 +338,9 @@ public class FWTScrollPanel extends FWTContainer
 								{ 
 									int page = (int)(dims.height)/2;
 									if (mY-dims.y < barButton.dims.y)
-										{scroll(page);}
+										{smoothScroll(page);}
 									if (mY-dims.y > barButton.dims.y+barButton.dims.height)
-										{scroll(-(page));}
+										{smoothScroll(-(page));}
 									return true;
 								}
 
@@ -289,9 +349,9 @@ public class FWTScrollPanel extends FWTContainer
 								{
 									int page = (int)(dims.width)/2;
 									if (mX-dims.x < barButton.dims.x)
-										{scroll(page);}
+										{smoothScroll(page);}
 									if (mX-dims.x > barButton.dims.x+barButton.dims.width)
-										{scroll(-(page));}
+										{smoothScroll(-(page));}
 									return true;
 								}
 						}
@@ -470,6 +530,20 @@ public class FWTScrollPanel extends FWTContainer
 							this.wheelScrolling = data.getBoolean("wheelscrolling");
 						}
 
+					// Viewport Buffer
+					//========================
+					if (data.get("viewportbuffer") != null)
+						{
+							this.viewportBuffer = data.getBoolean("viewportbuffer");
+						}
+
+					// Smooth Scrolling
+					//========================
+					if (data.get("smoothscrolling") != null)
+						{
+							this.smoothScrolling = data.getBoolean("smoothscrolling");
+						}
+
 					// Show Scroll Bar
 					//========================
 					if (data.get("showscrollbar") != null)
@@ -704,6 +778,70 @@ public class FWTScrollPanel extends FWTContainer
 	//********************************************************************
 	//********************************************************************
 
+	@Override
+	public void prepareBuffer()
+		{
+			if (needsResize)
+				{resizeBuffer(); needsResize = false; redraw();}
+		}
+
+
+	/** Returns 'true' if this panel's back buffer only holds its visible area (drawn at the scroll position) instead of
+	 * its whole virtual area: if set to, or if the virtual area exceeds FWTScrollable.MAX_VIRTUAL_BUFFER_SIZE. */
+	protected boolean isViewportBuffered()
+		{
+			return viewportBuffer || virtualDimensions.width > FWTScrollable.MAX_VIRTUAL_BUFFER_SIZE
+					|| virtualDimensions.height > FWTScrollable.MAX_VIRTUAL_BUFFER_SIZE;
+		}
+
+
+	/** Resizes this panel's back buffer to its visible or virtual size. */
+	@Override
+	void resizeBuffer()
+		{
+			bufferedViewport = isViewportBuffered();
+			if (bufferedViewport)
+				FWTUIFrameBufferController.resizeUIBuffer(this, (int)dims.width, (int)dims.height);
+			else
+				{
+					FWTUIFrameBufferController.resizeUIBuffer(this, (int)virtualDimensions.width, (int)virtualDimensions.height);
+					FWTUIFrameBufferController.getUIBufferRegion(this).setOrigin(0, 0);
+				}
+		}
+
+
+	/** Visible area storage. */
+	private final Rectangle viewArea = new Rectangle();
+
+	/** Only the visible area is redrawn, components scrolled out of it are culled.
+	 * <br> Whole-area buffers also draw FWTScrollable.SCROLL_OVERDRAW around the view on full redraws, then keep that
+	 * drawn area until a scroll leaves it (see {@link #redrawScrolled()}), so the rest is never shown stale. */
+	@Override
+	protected Rectangle getVisibleRegion()
+		{
+			viewArea.set((int)virtualDimensions.x, (int)virtualDimensions.y, dims.width, dims.height);
+			if (bufferedViewport) return viewArea;
+			if (needsRedrawn || isAnimating)
+				{
+					float mx = orientation ? 0f : dims.width * FWTScrollable.SCROLL_OVERDRAW;
+					float my = orientation ? dims.height * FWTScrollable.SCROLL_OVERDRAW : 0f;
+					float x = Math.max(viewArea.x - mx, 0f), y = Math.max(viewArea.y - my, 0f);
+					drawnArea.set(x, y, Math.min(viewArea.x + viewArea.width + mx, virtualDimensions.width) - x,
+							Math.min(viewArea.y + viewArea.height + my, virtualDimensions.height) - y);
+				}
+			return drawnArea;
+		}
+
+	/** Returns 'true' if the current view lies within the drawn area of a whole-area buffer. */
+	boolean isViewDrawn()
+		{
+			if (needsRedrawn) return false;
+			float x = (int)virtualDimensions.x, y = (int)virtualDimensions.y;
+			return x >= drawnArea.x && y >= drawnArea.y
+					&& x + dims.width <= drawnArea.x + drawnArea.width && y + dims.height <= drawnArea.y + drawnArea.height;
+		}
+
+
 	@Override
 	public void resize(int width, int height)
 		{		
@@ -712,8 +850,8 @@ public class FWTScrollPanel extends FWTContainer
 			// No buffer changes outside of OpenGL loop
 			if (Thread.currentThread().getId() == FWTController.getOpenGLThreadID())
 				{
-					// Ensures that buffer resizes are using virtual dimensions
-					FWTUIFrameBufferController.resizeUIBuffer(this, (int)virtualDimensions.width, (int)virtualDimensions.height);
+					// Ensures that buffer resizes are using virtual (or visible) dimensions
+					resizeBuffer();
 					needsResize = false;
 				}
 			else
@@ -750,6 +888,43 @@ public class FWTScrollPanel extends FWTContainer
 					needsScrollUpdate = false; 
 					updateScrollPosition();
 				}
+
+			updateSmoothScroll();
+		}
+
+
+	/** Advances the kinetic scroll by the frame delta. Only the scroll position moves: whole-area buffers are just
+	 * blitted from it until it leaves their drawn area, viewport buffers are copied and redraw the exposed strip. */
+	protected void updateSmoothScroll()
+		{
+			int pending = pendingScroll.getAndSet(0);
+			if (!smoothScrolling) {kinetic.stop(); return;}
+			float position = orientation ? virtualDimensions.y : virtualDimensions.x;
+
+			// Start the requested scroll, over any in progress unless moved otherwise
+			if (pending != 0)
+				{
+					if (position != kineticPos) kinetic.stop();
+					float max = orientation ? virtualDimensions.height - dims.height : virtualDimensions.width - dims.width;
+					kinetic.scrollBy(position, pending, max);
+					kineticPos = position;
+				}
+
+			if (!kinetic.isActive()) return;
+
+			// Moved otherwise (bar dragged, position set)
+			if (position != kineticPos) {kinetic.stop(); return;}
+
+			kineticPos = Math.round(kinetic.update(FWTController.getDelta()));
+			if (kineticPos != position)
+				{
+					if (orientation) virtualDimensions.y = kineticPos;
+					else virtualDimensions.x = kineticPos;
+					updateScrollPosition();
+				}
+
+			// Keep rendering until the scroll stops
+			if (kinetic.isActive()) markParentsDirty();
 		}
 
 
@@ -944,7 +1119,6 @@ public class FWTScrollPanel extends FWTContainer
 					int barY = (int) (posRatio * viewHeight);
 					barButton.getDimensions().y = dims.y + barY;
 					barButton.pushDimensionsToData();
-					barButton.redraw();
 				}
 			else // HORIZONTAL
 				{
@@ -953,9 +1127,9 @@ public class FWTScrollPanel extends FWTContainer
 					int barX = (int) (posRatio * viewWidth);
 					barButton.getDimensions().x = dims.x + barX;
 					barButton.pushDimensionsToData();
-					barButton.redraw();
 				}
-			this.redraw();
+			// Bar button moved only, blitted at its new position with this panel
+			redrawScrolled();
 		}
 
 
@@ -976,7 +1150,9 @@ public class FWTScrollPanel extends FWTContainer
 		{
 			try {
 				// Update component data
+				long start = FWTProfiler.start();
 				update();
+				FWTProfiler.record(Phase.UPDATE, this, start);
 			}catch (Exception ex)
 				{
 					FWTController.error("Error updating scrollpanel: "+this.getName());
@@ -985,25 +1161,36 @@ public class FWTScrollPanel extends FWTContainer
 
 			try {
 				// Resize if required
-				if (needsResize)
-					{FWTUIFrameBufferController.resizeUIBuffer(this, (int)virtualDimensions.width,(int)virtualDimensions.height); needsResize = false;}
+				if (needsResize || isViewportBuffered() != bufferedViewport)
+					{resizeBuffer(); needsResize = false; needsRedrawn = true;}
+
+				// Viewport buffers follow the scroll position
+				boolean viewport = bufferedViewport;
+				if (viewport)
+					scrollBuffer(getVisibleRegion());
 
 				// Redraw back buffer if required
-				if (needsRedrawn || isAnimating || componentsNeedRedrawn() || componentsAnimating())
-					{redrawBuffer(); needsRedrawn = false;}
+				redrawIfNeeded();
 
 				SpriteBatch spriteBatch = FWTController.getSpriteBatch();
 
 				// Draw back buffer
-				FrameBuffer fb = FWTUIFrameBufferController.getUIBuffer(this);
-				spriteBatch.begin();
-				spriteBatch.setBlendFunction(-1, -1);
-				Gdx.gl20.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE);
-				spriteBatch.draw(fb.getColorBufferTexture(), dims.x,dims.y,dims.width,dims.height,
-						(int)virtualDimensions.x,(int)virtualDimensions.y,(int)dims.width,(int)dims.height,
-						false, true); 
-				spriteBatch.end();
-				spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+				long start = FWTProfiler.start();
+				FWTUIBuffer fb = FWTUIFrameBufferController.getUIBufferRegion(this);
+				UIRenderer.begin(spriteBatch);
+				UIRenderer.setBufferBlending(spriteBatch);
+				if (viewport)
+					fb.draw(spriteBatch, dims.x,dims.y,dims.width,dims.height);
+				else
+					fb.draw(spriteBatch, dims.x,dims.y,dims.width,dims.height,
+							(int)virtualDimensions.x,(int)virtualDimensions.y,(int)dims.width,(int)dims.height);
+				UIRenderer.end(spriteBatch);
+				FWTProfiler.count(Counter.BLITS);
+				FWTProfiler.record(Phase.BLIT, this, start);
+
+				// Viewport buffers are scrolled by copying, so the border is drawn over them
+				if (viewport)
+					drawBorder(spriteBatch, FWTController.getShapeRenderer(), dims.x, dims.y);
 
 				// Scroll Bars
 				if (isShowingScrollBar())
@@ -1037,20 +1224,8 @@ public class FWTScrollPanel extends FWTContainer
 						return true;
 				}
 
-			for (FWTComponent comp : components)
-				{
-					if (comp.enabled)
-						{
-							if (comp instanceof FWTContainer)
-								{
-									if (((FWTContainer) comp).componentsNeedRedrawn() || comp.needsRedrawn)
-										return true;
-								}
-							else if (comp.needsRedrawn)
-								return true;
-						}
-				}
-			return false;
+			// Set upward by components on redraw, animation and enable
+			return childrenDirty;
 		}
 
 
@@ -1069,58 +1244,58 @@ public class FWTScrollPanel extends FWTContainer
 				{
 
 					// IF has background
-					if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+					if (!UIRenderer.hasUIImage(getBgImage()))
 						{
 							// Draw fill color
 							if (backgroundColor.a > 0f)
 								{
-									spriteBatch.begin();
+									UIRenderer.begin(spriteBatch);
 									UIRenderer.drawRectangle(spriteBatch,backgroundColor,0,0,virtualDimensions.width,virtualDimensions.height);
-									spriteBatch.end();
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, !scaleTexture);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawAreaUIImage(spriteBatch, id, getBgImage(), (int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, getRedrawRegion());
+							UIRenderer.end(spriteBatch);
 						}
 
 				}
 			else // ELSE mouse is over (highlighted)
 				{
 					// IF has no highlighted background
-					if (highlightTexture == null || highlightTexture.isEmpty() || !UIRenderer.hasUIImage(highlightTexture))
+					if (!UIRenderer.hasUIImage(getHighlightImage()))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (highlightColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch,highlightColor,0,0,virtualDimensions.width,virtualDimensions.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, !scaleTexture);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawAreaUIImage(spriteBatch, id, getBgImage(), (int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, getRedrawRegion());
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a highlighted texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, highlightTexture, 0, 0,(int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, !scaleTexture);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawAreaUIImage(spriteBatch, id, getHighlightImage(), (int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, getRedrawRegion());
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -1135,7 +1310,7 @@ public class FWTScrollPanel extends FWTContainer
 	public void redrawComponents()
 		{
 			// Enter This Component's Buffer
-			FWTUIFrameBufferController.pushDrawingContext(FWTUIFrameBufferController.getUIBuffer(this));
+			FWTUIFrameBufferController.pushDrawingContext(FWTUIFrameBufferController.getUIBufferRegion(this), getRedrawRegion());
 
 			// Draw Components
 			//***********************************
@@ -1143,9 +1318,8 @@ public class FWTScrollPanel extends FWTContainer
 			drawComponents();
 
 			// Draw panel's border over the components.
-			SpriteBatch spriteBatch = FWTController.getSpriteBatch();
-			ShapeRenderer shapeRenderer = FWTController.getShapeRenderer();
-			drawBorder(spriteBatch, shapeRenderer);
+			if (!bufferedViewport)
+				drawBorder(FWTController.getSpriteBatch(), FWTController.getShapeRenderer());
 
 			// Leave Frame Buffer
 			FWTUIFrameBufferController.popDrawingContext();
@@ -1154,10 +1328,17 @@ public class FWTScrollPanel extends FWTContainer
 
 
 	public void drawBorder(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
+		{
+			drawBorder(spriteBatch, shapeRenderer, virtualDimensions.x, virtualDimensions.y);
+		}
+
+
+	/** Draws this panel's border at the given position. */
+	public void drawBorder(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer, float x, float y)
 		{
 			// Draw border
 			// IF has border
-			if (borderTexture == null || borderTexture.isEmpty() || !UIRenderer.hasUIImage(borderTexture))
+			if (!UIRenderer.hasUIImage(getBorderImage()))
 				{
 					// Highlighted?
 					if (!mouseOver)
@@ -1165,9 +1346,9 @@ public class FWTScrollPanel extends FWTContainer
 							// Draw border color
 							if (borderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,borderColor,virtualDimensions.x,virtualDimensions.y,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,borderColor,x,y,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 					else
@@ -1175,9 +1356,9 @@ public class FWTScrollPanel extends FWTContainer
 							// Draw highlighted border color
 							if (highlightborderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,highlightborderColor,virtualDimensions.x,virtualDimensions.y,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,highlightborderColor,x,y,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 
 						}
@@ -1185,9 +1366,9 @@ public class FWTScrollPanel extends FWTContainer
 			// ELSE has a texture image
 			else
 				{
-					spriteBatch.begin();
-					UIRenderer.drawUIImage(spriteBatch, id, borderTexture, (int)virtualDimensions.x,(int)virtualDimensions.y,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
-					spriteBatch.end();
+					UIRenderer.begin(spriteBatch);
+					UIRenderer.drawUIImage(spriteBatch, id, getBorderImage(), (int)x,(int)y,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
+					UIRenderer.end(spriteBatch);
 				}
 		}
 
@@ -1334,30 +1515,27 @@ public class FWTScrollPanel extends FWTContainer
 			lmX = lmX + (int)virtualDimensions.x;
 			lmY = lmY + (int)virtualDimensions.y;
 
-			// Reversal through components (opposite of draw order)
-			for (int cc=components.size()-1; cc>-1; cc--)
+			// Top-most component under the mouse
+			FWTComponent comp = getComponentAt(lmX, lmY);
+			if (comp != null)
 				{
-					FWTComponent comp = components.get(cc);
-					if (comp.enabled && comp.contains(lmX, lmY))
+					// IF no previous focus component
+					if (mouseFocused == null)
 						{
-							// IF no previous focus component
-							if (mouseFocused == null)
-								{
-									// Enter next focus object
-									mouseFocused = comp;
-									comp.onEnter();
-								}
-							// ELSE IF not the same object
-							else if (comp.getID() != mouseFocused.getID())
-								{
-									// Leave last focus object
-									mouseFocused.onExit();
-									// Enter next focus object
-									mouseFocused = comp;
-									comp.onEnter();
-								}
-							return comp.mouseMoved(lmX, lmY);
+							// Enter next focus object
+							mouseFocused = comp;
+							comp.onEnter();
+						}
+					// ELSE IF not the same object
+					else if (comp.getID() != mouseFocused.getID())
+						{
+							// Leave last focus object
+							mouseFocused.onExit();
+							// Enter next focus object
+							mouseFocused = comp;
+							comp.onEnter();
 						}
+					return comp.mouseMoved(lmX, lmY);
 				}
 
 			// IF no component caught movement
@@ -1449,17 +1627,17 @@ public class FWTScrollPanel extends FWTContainer
 										{
 											int page = (int)(dims.height);
 											if (scrollAmount < 0)
-												scroll(((int)amountY)*page/2);
+												smoothScroll(((int)amountY)*page/2);
 											else		
-												scroll(((int)amountY)*scrollAmount);								
+												smoothScroll(((int)amountY)*scrollAmount);								
 										}
 									else // HORIZONTAL
 										{
 											int page = (int)(dims.width);
 											if (scrollAmount < 0)
-												scroll(((int)amountX)*page/2);
+												smoothScroll(((int)amountX)*page/2);
 											else		
-												scroll(((int)amountX)*scrollAmount);		
+												smoothScroll(((int)amountX)*scrollAmount);		
 										}
 									return true;
 								}
@@ -1478,13 +1656,13 @@ public class FWTScrollPanel extends FWTContainer
 							if (keyScrolling)
 								{
 									if (orientation && keycode == Keys.UP)
-										{scroll(-30); return true;}
+										{smoothScroll(-30); return true;}
 									if (orientation && keycode == Keys.DOWN)
-										{scroll(30); return true;}
+										{smoothScroll(30); return true;}
 									if (!orientation && keycode == Keys.LEFT)
-										{scroll(-30); return true;}
+										{smoothScroll(-30); return true;}
 									if (!orientation && keycode == Keys.RIGHT)
-										{scroll(30); return true;}
+										{smoothScroll(30); return true;}
 								}
 							return false;
 						}
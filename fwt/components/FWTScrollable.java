@@ -1,9 +1,14 @@
 package com.arboreantears.fwt.components;
 
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.arboreantears.fwt.FWTColors;
 import com.arboreantears.fwt.FWTController;
+import com.arboreantears.fwt.FWTProfiler;
+import com.arboreantears.fwt.FWTProfiler.Counter;
+import com.arboreantears.fwt.FWTProfiler.Phase;
+import com.arboreantears.fwt.FWTUIBuffer;
 import com.arboreantears.fwt.FWTUIFrameBufferController;
 import com.arboreantears.fwt.FWTWindowManager;
 import com.arboreantears.fwt.UIRenderer;
@@ -12,7 +17,6 @@ import com.arboreantears.fwt.events.FWTInputException;
 import com.arboreantears.fwt.events.FWTInputReceiver;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 
@@ -53,6 +57,15 @@ public class FWTScrollable extends FWTContainer
 			needsScrollUpdate = true;
 		}
 
+	/** Marks this scrollable for drawing after its scroll position changed. Viewport buffers are moved on the next render
+	 * (copying the part still in view), other buffers are only blitted from the new position while it stays within
+	 * their drawn area, and redrawn otherwise. */
+	protected void redrawScrolled()
+		{
+			if (isViewportBuffered() || isViewDrawn()) markParentsDirty();
+			else redraw();
+		}
+
 	/** Scrolls along the virtual Y dimensions. */
 	public void scrollVertical(int amount)
 		{
@@ -62,7 +75,7 @@ public class FWTScrollable extends FWTContainer
 				newY = (int) (virtualDimensions.height - dims.height);
 			virtualDimensions.y = newY;	
 			updateVerticalBar();
-			this.redraw();
+			redrawScrolled();
 		}
 
 	/** Sets the virtual Y dimension. */
@@ -74,7 +87,16 @@ public class FWTScrollable extends FWTContainer
 			virtualDimensions.y = virtY;
 
 			updateVerticalBar();
-			redraw();
+			redrawScrolled();
+		}
+
+	/** Scrolls along the virtual Y dimensions, kinetically over the next frames if smooth scrolling. */
+	public void smoothScrollVertical(int amount)
+		{
+			if (!smoothScrolling) {scrollVertical(amount); return;}
+			// Applied on the OpenGL thread by the next update
+			pendingScrollY.addAndGet(-amount);
+			markParentsDirty();
 		}
 
 
@@ -88,7 +110,7 @@ public class FWTScrollable extends FWTContainer
 			virtualDimensions.x = newX;		
 
 			updateHorizontalBar();
-			redraw();
+			redrawScrolled();
 		}
 	/** Sets the virtual X dimension. */
 	public void setHorizontalScroll(float virtX)
@@ -99,7 +121,16 @@ public class FWTScrollable extends FWTContainer
 			virtualDimensions.x = virtX;
 
 			updateHorizontalBar();
-			redraw();
+			redrawScrolled();
+		}
+
+	/** Scrolls along the virtual X dimensions, kinetically over the next frames if smooth scrolling. */
+	public void smoothScrollHorizontal(int amount)
+		{
+			if (!smoothScrolling) {scrollHorizontal(amount); return;}
+			// Applied on the OpenGL thread by the next update
+			pendingScrollX.addAndGet(amount);
+			markParentsDirty();
 		}
 
 
@@ -195,6 +226,50 @@ public class FWTScrollable extends FWTContainer
 
 
 
+	// Viewport Buffer
+	//----------------------------------
+
+	/** Virtual areas larger than this (in either direction) are always viewport-buffered, to stay within texture size limits. */
+	public static int MAX_VIRTUAL_BUFFER_SIZE = 4096;
+
+	/** 'True' if this scrollable's back buffer only holds its visible area. */
+	boolean viewportBuffer;
+	/** Returns 'true' if this scrollable's back buffer is set to only hold its visible area. */
+	public boolean isViewportBuffer() {return viewportBuffer;}
+	/** Sets if this scrollable's back buffer only holds its visible area. */
+	public void setViewportBuffer(boolean vb) {viewportBuffer = vb; redraw();}
+
+	/** 'True' if the current back buffer was sized to the visible area. */
+	boolean bufferedViewport;
+
+	/** Part of the view size drawn beyond each scrolling side of the view in whole-area buffers, so short scrolls only
+	 * move the blit. Scrolling redraws them when it exposes content outside of the drawn area. */
+	public static float SCROLL_OVERDRAW = 0.5f;
+
+	/** Area of the whole-area buffer drawn at its last full redraw. */
+	private final Rectangle drawnArea = new Rectangle();
+
+
+
+	// Smooth Scrolling
+	//----------------------------------
+
+	/** 'True' if wheel, key and page scrolling is kinetic (animated from the frame delta) instead of immediate. */
+	volatile boolean smoothScrolling;
+	/** Returns 'true' if wheel, key and page scrolling is kinetic instead of immediate. */
+	public boolean isSmoothScrolling() {return smoothScrolling;}
+	/** Sets if wheel, key and page scrolling is kinetic instead of immediate. Scrolls in progress stop on the next update. */
+	public void setSmoothScrolling(boolean ss) {smoothScrolling = ss; if (!ss) markParentsDirty();}
+
+	/** Scroll distances requested from the input thread, not yet applied to the kinetic scrolls. */
+	private final AtomicInteger pendingScrollX = new AtomicInteger(), pendingScrollY = new AtomicInteger();
+	/** Kinetic scrolls along the virtual X and Y dimensions. Only used on the OpenGL thread. */
+	FWTKineticScroll kineticX, kineticY;
+	/** Virtual position last set by the kinetic scrolls. A different position means it was moved otherwise (e.g. dragged). */
+	float kineticPosX, kineticPosY;
+
+
+
 
 
 	@Override
@@ -251,6 +326,9 @@ public class FWTScrollable extends FWTContainer
 			super.setDefaults();
 			barSize = 20;
 			needsScrollUpdate = true;			
+			smoothScrolling = false;
+			kineticX = new FWTKineticScroll();
+			kineticY = new FWTKineticScroll();
 		}
 	
 
@@ -372,6 +450,20 @@ public class FWTScrollable extends FWTContainer
 							this.keyScrolling = data.getBoolean("keyscrolling");
 						}
 
+					// VIEWPORT BUFFER
+					//========================
+					if (data.get("viewportbuffer") != null)
+						{
+							this.viewportBuffer = data.getBoolean("viewportbuffer");
+						}
+
+					// SMOOTH SCROLLING
+					//========================
+					if (data.get("smoothscrolling") != null)
+						{
+							this.smoothScrolling = data.getBoolean("smoothscrolling");
+						}
+
 
 
 					// Center Buttons
@@ -551,6 +643,69 @@ public class FWTScrollable extends FWTContainer
 	//********************************************************************
 	//********************************************************************
 
+	@Override
+	public void prepareBuffer()
+		{
+			if (needsResize)
+				{resizeBuffer(); needsResize = false; redraw();}
+		}
+
+
+	/** Returns 'true' if this scrollable's back buffer only holds its visible area (drawn at the scroll position)
+	 * instead of its whole virtual area: if set to, or if the virtual area exceeds MAX_VIRTUAL_BUFFER_SIZE. */
+	protected boolean isViewportBuffered()
+		{
+			return viewportBuffer || virtualDimensions.width > MAX_VIRTUAL_BUFFER_SIZE || virtualDimensions.height > MAX_VIRTUAL_BUFFER_SIZE;
+		}
+
+
+	/** Resizes this scrollable's back buffer to its visible or virtual size. */
+	@Override
+	void resizeBuffer()
+		{
+			bufferedViewport = isViewportBuffered();
+			if (bufferedViewport)
+				FWTUIFrameBufferController.resizeUIBuffer(this, (int)dims.width, (int)dims.height);
+			else
+				{
+					FWTUIFrameBufferController.resizeUIBuffer(this, (int)virtualDimensions.width, (int)virtualDimensions.height);
+					FWTUIFrameBufferController.getUIBufferRegion(this).setOrigin(0, 0);
+				}
+		}
+
+
+	/** Visible area storage. */
+	private final Rectangle viewArea = new Rectangle();
+
+	/** Only the visible area is redrawn, components scrolled out of it are culled.
+	 * <br> Whole-area buffers also draw SCROLL_OVERDRAW around the view on full redraws, then keep that drawn area
+	 * until a scroll leaves it (see {@link #redrawScrolled()}), so the rest is never shown stale. */
+	@Override
+	protected Rectangle getVisibleRegion()
+		{
+			viewArea.set((int)virtualDimensions.x, (int)virtualDimensions.y, dims.width, dims.height);
+			if (bufferedViewport) return viewArea;
+			if (needsRedrawn || isAnimating)
+				{
+					float mx = scrollHorizontal ? dims.width * SCROLL_OVERDRAW : 0f;
+					float my = scrollVertical ? dims.height * SCROLL_OVERDRAW : 0f;
+					float x = Math.max(viewArea.x - mx, 0f), y = Math.max(viewArea.y - my, 0f);
+					drawnArea.set(x, y, Math.min(viewArea.x + viewArea.width + mx, virtualDimensions.width) - x,
+							Math.min(viewArea.y + viewArea.height + my, virtualDimensions.height) - y);
+				}
+			return drawnArea;
+		}
+
+	/** Returns 'true' if the current view lies within the drawn area of a whole-area buffer. */
+	boolean isViewDrawn()
+		{
+			if (needsRedrawn) return false;
+			float x = (int)virtualDimensions.x, y = (int)virtualDimensions.y;
+			return x >= drawnArea.x && y >= drawnArea.y
+					&& x + dims.width <= drawnArea.x + drawnArea.width && y + dims.height <= drawnArea.y + drawnArea.height;
+		}
+
+
 	/** Resizes this scroll-panel and its components based on the given screen dimensions. */
 	public void resize(int width, int height)
 		{
@@ -565,7 +720,7 @@ public class FWTScrollable extends FWTContainer
 			// No buffer changes outside of OpenGL loop
 			if (Thread.currentThread().getId() == FWTController.getOpenGLThreadID())
 				{
-					FWTUIFrameBufferController.resizeUIBuffer(this, (int)virtualDimensions.width, (int)virtualDimensions.height);
+					resizeBuffer();
 					needsResize = false;
 				}
 			else
@@ -655,8 +810,8 @@ public class FWTScrollable extends FWTContainer
 			int barY = (int) (posRatio * viewHeight);
 			barVButton.getDimensions().y = dims.y + barY;
 			barVButton.pushDimensionsToData();
-			barVButton.redraw();
-			this.redraw();
+			// Moved only, blitted at its new position with this scrollable
+			redrawScrolled();
 		}
 
 
@@ -668,8 +823,8 @@ public class FWTScrollable extends FWTContainer
 			int barX = (int) (posRatio * viewWidth);
 			barHButton.getDimensions().x = dims.x + barX;
 			barHButton.pushDimensionsToData();
-			barHButton.redraw();
-			this.redraw();
+			// Moved only, blitted at its new position with this scrollable
+			redrawScrolled();
 		}
 
 
@@ -677,6 +832,72 @@ public class FWTScrollable extends FWTContainer
 
 
 
+	//  SMOOTH SCROLLING
+	//********************************************************************
+	//********************************************************************
+
+	@Override
+	public void update()
+		{
+			super.update();
+			updateSmoothScroll();
+		}
+
+
+	/** Advances the kinetic scrolls by the frame delta. Only the scroll position moves: whole-area buffers are just
+	 * blitted from it until it leaves their drawn area, viewport buffers are copied and redraw the exposed strips. */
+	protected void updateSmoothScroll()
+		{
+			int pendingX = pendingScrollX.getAndSet(0), pendingY = pendingScrollY.getAndSet(0);
+			if (!smoothScrolling) {kineticX.stop(); kineticY.stop(); return;}
+
+			// Start the requested scrolls, over any in progress unless moved otherwise
+			if (pendingY != 0)
+				{
+					if (virtualDimensions.y != kineticPosY) kineticY.stop();
+					kineticY.scrollBy(virtualDimensions.y, pendingY, virtualDimensions.height - dims.height);
+					kineticPosY = virtualDimensions.y;
+				}
+			if (pendingX != 0)
+				{
+					if (virtualDimensions.x != kineticPosX) kineticX.stop();
+					kineticX.scrollBy(virtualDimensions.x, pendingX, virtualDimensions.width - dims.width);
+					kineticPosX = virtualDimensions.x;
+				}
+
+			if (!kineticX.isActive() && !kineticY.isActive()) return;
+			float delta = FWTController.getDelta();
+
+			if (kineticY.isActive())
+				{
+					// Moved otherwise (bar dragged, position set)
+					if (virtualDimensions.y != kineticPosY) kineticY.stop();
+					else
+						{
+							float y = Math.round(kineticY.update(delta));
+							if (y != virtualDimensions.y) {virtualDimensions.y = y; updateVerticalBar();}
+							kineticPosY = y;
+						}
+				}
+			if (kineticX.isActive())
+				{
+					if (virtualDimensions.x != kineticPosX) kineticX.stop();
+					else
+						{
+							float x = Math.round(kineticX.update(delta));
+							if (x != virtualDimensions.x) {virtualDimensions.x = x; updateHorizontalBar();}
+							kineticPosX = x;
+						}
+				}
+
+			// Keep rendering until the scrolls stop
+			if (kineticX.isActive() || kineticY.isActive()) markParentsDirty();
+		}
+
+
+
+
+
 	//  RENDER
 	//********************************************************************
 	//********************************************************************
@@ -686,7 +907,9 @@ public class FWTScrollable extends FWTContainer
 		{
 			try {
 				// Update component data
+				long start = FWTProfiler.start();
 				update();
+				FWTProfiler.record(Phase.UPDATE, this, start);
 			}catch (Exception ex)
 				{
 					FWTController.error("Error updating scrollable: "+this.getName());
@@ -695,23 +918,37 @@ public class FWTScrollable extends FWTContainer
 
 			try {
 
-				// Resize if required
-				if (needsResize)
-					{FWTUIFrameBufferController.resizeUIBuffer(this, (int)virtualDimensions.width,(int)virtualDimensions.height); needsResize = false;}
+				// Resize if required (or if the buffer mode changed)
+				if (needsResize || isViewportBuffered() != bufferedViewport)
+					{resizeBuffer(); needsResize = false; needsRedrawn = true;}
+
+				// Viewport buffers follow the scroll position
+				boolean viewport = bufferedViewport;
+				if (viewport)
+					scrollBuffer(getVisibleRegion());
 
 				// Redraw back buffer if required
-				if (needsRedrawn || isAnimating || componentsNeedRedrawn() || componentsAnimating())
-					{redrawBuffer(); needsRedrawn = false;}
+				redrawIfNeeded();
 
 				SpriteBatch spriteBatch = FWTController.getSpriteBatch();
 
 				// Draw back buffer
-				FrameBuffer fb = FWTUIFrameBufferController.getUIBuffer(this);
-				spriteBatch.begin();
-				spriteBatch.draw(fb.getColorBufferTexture(), dims.x,dims.y,dims.width,dims.height,
-						(int)virtualDimensions.x,(int)virtualDimensions.y,(int)dims.width,(int)dims.height,
-						false, true); 
-				spriteBatch.end();
+				long start = FWTProfiler.start();
+				FWTUIBuffer fb = FWTUIFrameBufferController.getUIBufferRegion(this);
+				UIRenderer.begin(spriteBatch);
+				UIRenderer.setDefaultBlending(spriteBatch);
+				if (viewport)
+					fb.draw(spriteBatch, dims.x,dims.y,dims.width,dims.height);
+				else
+					fb.draw(spriteBatch, dims.x,dims.y,dims.width,dims.height,
+							(int)virtualDimensions.x,(int)virtualDimensions.y,(int)dims.width,(int)dims.height);
+				UIRenderer.end(spriteBatch);
+				FWTProfiler.count(Counter.BLITS);
+				FWTProfiler.record(Phase.BLIT, this, start);
+
+				// Viewport buffers are scrolled by copying, so the border is drawn over them
+				if (viewport)
+					drawBorder(spriteBatch, FWTController.getShapeRenderer(), dims.x, dims.y);
 
 				if (showHorizontalBar)
 					{
@@ -755,20 +992,8 @@ public class FWTScrollable extends FWTContainer
 						return true;
 				}
 
-			for (FWTComponent comp : components)
-				{
-					if (comp.enabled)
-						{
-							if (comp instanceof FWTContainer)
-								{
-									if (((FWTContainer) comp).componentsNeedRedrawn() || comp.needsRedrawn)
-										return true;
-								}
-							else if (comp.needsRedrawn)
-								return true;
-						}
-				}
-			return false;
+			// Set upward by components on redraw, animation and enable
+			return childrenDirty;
 		}
 
 
@@ -786,58 +1011,58 @@ public class FWTScrollable extends FWTContainer
 				{
 
 					// IF has background
-					if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+					if (!UIRenderer.hasUIImage(getBgImage()))
 						{
 							// Draw fill color
 							if (backgroundColor.a > 0f)
 								{
-									spriteBatch.begin();
+									UIRenderer.begin(spriteBatch);
 									UIRenderer.drawRectangle(spriteBatch,backgroundColor,0,0,virtualDimensions.width,virtualDimensions.height);
-									spriteBatch.end();
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, !scaleTexture);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawAreaUIImage(spriteBatch, id, getBgImage(), (int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, getRedrawRegion());
+							UIRenderer.end(spriteBatch);
 						}
 
 				}
 			else // ELSE mouse is over (highlighted)
 				{
 					// IF has no highlighted background
-					if (highlightTexture == null || highlightTexture.isEmpty() || !UIRenderer.hasUIImage(highlightTexture))
+					if (!UIRenderer.hasUIImage(getHighlightImage()))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (highlightColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch,highlightColor,0,0,virtualDimensions.width,virtualDimensions.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, !scaleTexture);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawAreaUIImage(spriteBatch, id, getBgImage(), (int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, getRedrawRegion());
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a highlighted texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, highlightTexture, 0, 0,(int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, !scaleTexture);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawAreaUIImage(spriteBatch, id, getHighlightImage(), (int)virtualDimensions.width,(int)virtualDimensions.height, scaleTexture, getRedrawRegion());
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -851,7 +1076,7 @@ public class FWTScrollable extends FWTContainer
 	public void redrawComponents()
 		{
 			// Enter This Component's Buffer
-			FWTUIFrameBufferController.pushDrawingContext(FWTUIFrameBufferController.getUIBuffer(this));
+			FWTUIFrameBufferController.pushDrawingContext(FWTUIFrameBufferController.getUIBufferRegion(this), getRedrawRegion());
 
 			// Draw Components
 			//***********************************
@@ -859,9 +1084,8 @@ public class FWTScrollable extends FWTContainer
 			drawComponents();
 
 			// Draw panel's border over the components.
-			SpriteBatch spriteBatch = FWTController.getSpriteBatch();
-			ShapeRenderer shapeRenderer = FWTController.getShapeRenderer();
-			drawBorder(spriteBatch, shapeRenderer);
+			if (!bufferedViewport)
+				drawBorder(FWTController.getSpriteBatch(), FWTController.getShapeRenderer());
 
 			// Leave Frame Buffer
 			FWTUIFrameBufferController.popDrawingContext();
@@ -870,10 +1094,17 @@ public class FWTScrollable extends FWTContainer
 
 
 	public void drawBorder(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
+		{
+			drawBorder(spriteBatch, shapeRenderer, virtualDimensions.x, virtualDimensions.y);
+		}
+
+
+	/** Draws this scrollable's border at the given position. */
+	public void drawBorder(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer, float x, float y)
 		{
 			// Draw border
 			// IF has border
-			if (borderTexture == null || borderTexture.isEmpty() || !UIRenderer.hasUIImage(borderTexture))
+			if (!UIRenderer.hasUIImage(getBorderImage()))
 				{
 					// Highlighted?
 					if (!mouseOver)
@@ -881,9 +1112,9 @@ public class FWTScrollable extends FWTContainer
 							// Draw border color
 							if (borderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,borderColor,virtualDimensions.x,virtualDimensions.y,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,borderColor,x,y,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 					else
@@ -891,9 +1122,9 @@ public class FWTScrollable extends FWTContainer
 							// Draw highlighted border color
 							if (highlightborderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,highlightborderColor,virtualDimensions.x,virtualDimensions.y,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,highlightborderColor,x,y,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 
 						}
@@ -901,9 +1132,9 @@ public class FWTScrollable extends FWTContainer
 			// ELSE has a texture image
 			else
 				{
-					spriteBatch.begin();
-					UIRenderer.drawUIImage(spriteBatch, id, borderTexture, (int)virtualDimensions.x,(int)virtualDimensions.y,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
-					spriteBatch.end();
+					UIRenderer.begin(spriteBatch);
+					UIRenderer.drawUIImage(spriteBatch, id, getBorderImage(), (int)x,(int)y,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
+					UIRenderer.end(spriteBatch);
 				}
 		}
 
@@ -1116,30 +1347,27 @@ public class FWTScrollable extends FWTContainer
 			lmY = lmY + (int)virtualDimensions.y;
 
 
-			// Reversal through components (opposite of draw order)
-			for (int cc=components.size()-1; cc>-1; cc--)
+			// Top-most component under the mouse
+			FWTComponent comp = getComponentAt(lmX, lmY);
+			if (comp != null)
 				{
-					FWTComponent comp = components.get(cc);
-					if (comp.enabled && comp.contains(lmX, lmY))
+					// IF no previous focus component
+					if (mouseFocused == null)
 						{
-							// IF no previous focus component
-							if (mouseFocused == null)
-								{
-									// Enter next focus object
-									mouseFocused = comp;
-									comp.onEnter();
-								}
-							// ELSE IF not the same object
-							else if (comp.getID() != mouseFocused.getID())
-								{
-									// Leave last focus object
-									mouseFocused.onExit();
-									// Enter next focus object
-									mouseFocused = comp;
-									comp.onEnter();
-								}
-							return comp.mouseMoved(lmX, lmY);
+							// Enter next focus object
+							mouseFocused = comp;
+							comp.onEnter();
+						}
+					// ELSE IF not the same object
+					else if (comp.getID() != mouseFocused.getID())
+						{
+							// Leave last focus object
+							mouseFocused.onExit();
+							// Enter next focus object
+							mouseFocused = comp;
+							comp.onEnter();
 						}
+					return comp.mouseMoved(lmX, lmY);
 				}
 
 			// IF no component caught movement
@@ -1222,7 +1450,7 @@ public class FWTScrollable extends FWTContainer
 					public boolean scrolled(float amountX, float amountY) throws FWTInputException 
 						{
 							int page = (int)(dims.height);
-							scrollVertical(((int)amountY)*page/2);
+							smoothScrollVertical(((int)amountY)*page/2);
 							return true;
 						}
 
@@ -1241,16 +1469,16 @@ public class FWTScrollable extends FWTContainer
 									if (showVerticalBar)
 										{
 											if (keycode == Keys.DOWN)
-												{scrollVertical(30); return true;}
+												{smoothScrollVertical(30); return true;}
 											if (keycode == Keys.UP)
-												{scrollVertical(-30); return true;}
+												{smoothScrollVertical(-30); return true;}
 										}
 									if (showHorizontalBar)
 										{
 											if (keycode == Keys.LEFT)
-												{scrollHorizontal(-30); return true;}
+												{smoothScrollHorizontal(-30); return true;}
 											if (keycode == Keys.RIGHT)
-												{scrollHorizontal(30); return true;}
+												{smoothScrollHorizontal(30); return true;}
 										}
 								}
 							return false;
@@ -1289,9 +1517,9 @@ public class FWTScrollable extends FWTContainer
 					{
 						int page = (int)(dims.width)/2;
 						if (mX-dims.x < barHButton.dims.x)
-							{scrollHorizontal(page);}
+							{smoothScrollHorizontal(page);}
 						if (mX-dims.x > barHButton.dims.x+barHButton.dims.width)
-							{scrollHorizontal(-(page));}
+							{smoothScrollHorizontal(-(page));}
 						return true;
 					}
 
@@ -1359,9 +1587,9 @@ public class FWTScrollable extends FWTContainer
 					{
 						int page = (int)(dims.height)/2;
 						if (mY-dims.y < barVButton.dims.y)
-							{scrollVertical(page);}
+							{smoothScrollVertical(page);}
 						if (mY-dims.y > barVButton.dims.y+barVButton.dims.height)
-							{scrollVertical(-(page));}
+							{smoothScrollVertical(-(page));}
 						return true;
 					}
 			});
@@ -4,6 +4,7 @@ import com.arboreantears.fwt.Direction;
 import com.arboreantears.fwt.FWTController;
 import com.arboreantears.fwt.Fonts;
 import com.arboreantears.fwt.Language;
+import com.arboreantears.fwt.UIRenderer;
 import com.arboreantears.fwt.XMLDataPacket;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -389,6 +390,15 @@ public class FWTTextButton extends FWTUIButton
 	//  DRAW
 	//********************************************************************
 
+	/** Adds one draw per line of text. */
+	@Override
+	public int getDrawCost()
+		{
+			if (font == null || getLabelString() == null) return super.getDrawCost();
+			return super.getDrawCost() + Math.max((glyphs == null) ? 1 : glyphs.runs.size, 1);
+		}
+
+
 	/** Draws the button according to its current properties. */
 	public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 		{
@@ -401,7 +411,7 @@ public class FWTTextButton extends FWTUIButton
 			if (font != null && label != null)
 				{
 					// Draw Label
-					spriteBatch.begin();
+					UIRenderer.begin(spriteBatch);
 					font.setColor(Color.WHITE);
 					font.getData().markupEnabled = true;
 					switch(alignment)
@@ -431,7 +441,7 @@ public class FWTTextButton extends FWTUIButton
 
 					}
 					font.getData().markupEnabled = false;
-					spriteBatch.end();
+					UIRenderer.end(spriteBatch);
 				}
 
 
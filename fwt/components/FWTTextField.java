@@ -420,6 +420,14 @@ public class FWTTextField extends FWTComponent
 	//  DRAW
 	//********************************************************************
 
+	/** Adds the text and cursor draws. */
+	@Override
+	public int getDrawCost()
+		{
+			return super.getDrawCost() + Math.max((glyphs == null) ? 1 : glyphs.runs.size, 1) + 1;
+		}
+
+
 	/** Draws the textfield according to its current properties. */
 	public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 		{
@@ -432,7 +440,7 @@ public class FWTTextField extends FWTComponent
 					float textY = getTextY(font);
 					calculateOffsets();
 					
-					spriteBatch.begin();
+					UIRenderer.begin(spriteBatch);
 
 					// IF has selection, draw background
 					if (hasSelection && highlightFontColor != null) 
@@ -468,7 +476,7 @@ public class FWTTextField extends FWTComponent
 									(int)(textY-font.getDescent()-textHeight), 3, (int)textHeight, true, false);
 						}
 					
-					spriteBatch.end();
+					UIRenderer.end(spriteBatch);
 
 				}
 
@@ -545,7 +553,7 @@ public class FWTTextField extends FWTComponent
 								}
 							else
 								{
-									needsRedrawn = true;
+									redraw();
 									return true;
 								}
 						}
@@ -111,6 +111,16 @@ public class FWTToggleButton extends FWTUIButton
 	//  DRAW
 	//********************************************************************
 
+	/** Adds the pressed icon draw. */
+	@Override
+	public int getDrawCost()
+		{
+			int cost = super.getDrawCost();
+			if (pressedIcon != null && !pressedIcon.isEmpty()) cost++;
+			return cost;
+		}
+
+
 	@Override
 	public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 		{
@@ -121,32 +131,32 @@ public class FWTToggleButton extends FWTUIButton
 					if (pressedTexture == null || pressedTexture.isEmpty() || !UIRenderer.hasUIImage(pressedTexture))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (pressedColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch, pressedColor, 0, 0, dims.width, dims.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a pressed texture image
 					else
 						{
-							spriteBatch.begin();
+							UIRenderer.begin(spriteBatch);
 							UIRenderer.drawUIImage(spriteBatch, id, pressedTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -155,58 +165,58 @@ public class FWTToggleButton extends FWTUIButton
 				{
 
 					// IF has background
-					if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+					if (!UIRenderer.hasUIImage(getBgImage()))
 						{
 							// Draw fill color
 							if (backgroundColor.a > 0f)
 								{
-									spriteBatch.begin();
+									UIRenderer.begin(spriteBatch);
 									UIRenderer.drawRectangle(spriteBatch, backgroundColor, 0, 0, dims.width, dims.height);
-									spriteBatch.end();
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+							UIRenderer.end(spriteBatch);
 						}
 
 				}
 			else // ELSE mouse is over (highlighted)
 				{
 					// IF has no highlighted background
-					if (highlightTexture == null || highlightTexture.isEmpty() || !UIRenderer.hasUIImage(highlightTexture))
+					if (!UIRenderer.hasUIImage(getHighlightImage()))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (highlightColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch, highlightColor, 0, 0, dims.width, dims.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a highlighted texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, highlightTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getHighlightImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -231,7 +241,7 @@ public class FWTToggleButton extends FWTUIButton
 
 			// Draw border
 			// IF has border
-			if (borderTexture == null || borderTexture.isEmpty() || !UIRenderer.hasUIImage(borderTexture))
+			if (!UIRenderer.hasUIImage(getBorderImage()))
 				{
 					// Highlighted?
 					if (!mouseOver)
@@ -239,9 +249,9 @@ public class FWTToggleButton extends FWTUIButton
 							// Draw border color
 							if (borderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,borderColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,borderColor,0,0,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 					else
@@ -249,9 +259,9 @@ public class FWTToggleButton extends FWTUIButton
 							// Draw highlighted border color
 							if (highlightborderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,highlightborderColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,highlightborderColor,0,0,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 
 						}
@@ -259,9 +269,9 @@ public class FWTToggleButton extends FWTUIButton
 			// ELSE has a texture image
 			else
 				{
-					spriteBatch.begin();
-					UIRenderer.drawUIImage(spriteBatch, id, borderTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
-					spriteBatch.end();
+					UIRenderer.begin(spriteBatch);
+					UIRenderer.drawUIImage(spriteBatch, id, getBorderImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
+					UIRenderer.end(spriteBatch);
 				}
 
 
@@ -285,7 +295,7 @@ public class FWTToggleButton extends FWTUIButton
 							pressed = !pressed; 
 							if (buttonListener != null)
 								buttonListener.tryButtonDown();
-							needsRedrawn = true;
+							redraw();
 
 							return true;
 						}
@@ -298,7 +308,7 @@ public class FWTToggleButton extends FWTUIButton
 									buttonListener.tryButtonUp();
 									buttonListener.tryButtonPressed(button);
 								}
-							needsRedrawn = true;
+							redraw();
 							return true;
 						}
 
@@ -313,7 +323,7 @@ public class FWTToggleButton extends FWTUIButton
 								}
 							else
 								{
-									needsRedrawn = true;
+									redraw();
 									return true;
 								}
 						}
@@ -321,7 +331,7 @@ public class FWTToggleButton extends FWTUIButton
 					@Override
 					public boolean dragRelease(int mX, int mY, int pointer)  throws FWTInputException
 						{
-							needsRedrawn = true;
+							redraw();
 							return true;
 						}
 
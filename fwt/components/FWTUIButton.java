@@ -178,6 +178,17 @@ public class FWTUIButton extends FWTComponent
 	//  DRAW
 	//********************************************************************
 
+	/** Adds the pressed background and icon draws. */
+	@Override
+	public int getDrawCost()
+		{
+			int cost = super.getDrawCost();
+			if (pressedTexture != null && !pressedTexture.isEmpty()) cost++;
+			if (iconTexture != null && !iconTexture.isEmpty()) cost++;
+			return cost;
+		}
+
+
 	@Override
 	public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer)
 		{
@@ -188,32 +199,32 @@ public class FWTUIButton extends FWTComponent
 					if (pressedTexture == null || pressedTexture.isEmpty() || !UIRenderer.hasUIImage(pressedTexture))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (pressedColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch, pressedColor, 0, 0, dims.width, dims.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a pressed texture image
 					else
 						{
-							spriteBatch.begin();
+							UIRenderer.begin(spriteBatch);
 							UIRenderer.drawUIImage(spriteBatch, id, pressedTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -222,58 +233,58 @@ public class FWTUIButton extends FWTComponent
 				{
 
 					// IF has background
-					if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+					if (!UIRenderer.hasUIImage(getBgImage()))
 						{
 							// Draw fill color
 							if (backgroundColor.a > 0f)
 								{
-									spriteBatch.begin();
+									UIRenderer.begin(spriteBatch);
 									UIRenderer.drawRectangle(spriteBatch, backgroundColor, 0, 0, dims.width, dims.height);
-									spriteBatch.end();
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+							UIRenderer.end(spriteBatch);
 						}
 
 				}
 			else // ELSE mouse is over (highlighted)
 				{
 					// IF has no highlighted background
-					if (highlightTexture == null || highlightTexture.isEmpty() || !UIRenderer.hasUIImage(highlightTexture))
+					if (!UIRenderer.hasUIImage(getHighlightImage()))
 						{
 							// IF has no background texture
-							if (bgTexture == null || bgTexture.isEmpty() || !UIRenderer.hasUIImage(bgTexture))
+							if (!UIRenderer.hasUIImage(getBgImage()))
 								{
 									// Draw fill color
 									if (highlightColor.a > 0f)
 										{
-											spriteBatch.begin();
+											UIRenderer.begin(spriteBatch);
 											UIRenderer.drawRectangle(spriteBatch, highlightColor, 0, 0, dims.width, dims.height);
-											spriteBatch.end();
+											UIRenderer.end(spriteBatch);
 										}
 								}
 
 							// ELSE has a texture image
 							else
 								{
-									spriteBatch.begin();
-									UIRenderer.drawUIImage(spriteBatch, id, bgTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawUIImage(spriteBatch, id, getBgImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 
 					// ELSE has a highlighted texture image
 					else
 						{
-							spriteBatch.begin();
-							UIRenderer.drawUIImage(spriteBatch, id, highlightTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
-							spriteBatch.end();
+							UIRenderer.begin(spriteBatch);
+							UIRenderer.drawUIImage(spriteBatch, id, getHighlightImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, false);
+							UIRenderer.end(spriteBatch);
 						}
 				}
 
@@ -287,7 +298,7 @@ public class FWTUIButton extends FWTComponent
 
 			// Draw border
 			// IF has border
-			if (borderTexture == null || borderTexture.isEmpty() || !UIRenderer.hasUIImage(borderTexture))
+			if (!UIRenderer.hasUIImage(getBorderImage()))
 				{
 					// Highlighted?
 					if (!mouseOver)
@@ -295,9 +306,9 @@ public class FWTUIButton extends FWTComponent
 							// Draw border color
 							if (borderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,borderColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,borderColor,0,0,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 						}
 					else
@@ -305,9 +316,9 @@ public class FWTUIButton extends FWTComponent
 							// Draw highlighted border color
 							if (highlightborderColor.a > 0f)
 								{
-									spriteBatch.begin();
-									UIRenderer.drawThinBorder(this.getID()+1L,spriteBatch,highlightborderColor,0,0,dims.width,dims.height);
-									spriteBatch.end();
+									UIRenderer.begin(spriteBatch);
+									UIRenderer.drawThinBorder(spriteBatch,highlightborderColor,0,0,dims.width,dims.height);
+									UIRenderer.end(spriteBatch);
 								}
 
 						}
@@ -315,9 +326,9 @@ public class FWTUIButton extends FWTComponent
 			// ELSE has a texture image
 			else
 				{
-					spriteBatch.begin();
-					UIRenderer.drawUIImage(spriteBatch, id, borderTexture, 0, 0,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
-					spriteBatch.end();
+					UIRenderer.begin(spriteBatch);
+					UIRenderer.drawUIImage(spriteBatch, id, getBorderImage(), 0, 0,(int)dims.width,(int)dims.height, scaleTexture, !scaleTexture);
+					UIRenderer.end(spriteBatch);
 				}
 
 
@@ -330,9 +341,9 @@ public class FWTUIButton extends FWTComponent
 		{
 			if (iconTexture != null)
 				{
-					spriteBatch.begin();
+					UIRenderer.begin(spriteBatch);
 					UIRenderer.drawUIImage(spriteBatch, id, iconTexture, 0, 0, (int)dims.width, (int)dims.height, true, false);
-					spriteBatch.end();
+					UIRenderer.end(spriteBatch);
 				}
 		}
 
@@ -354,7 +365,7 @@ public class FWTUIButton extends FWTComponent
 							pressed = true; 
 							if (buttonListener != null)
 								buttonListener.tryButtonDown();
-							needsRedrawn = true;
+							redraw();
 
 							return true;
 						}
@@ -368,7 +379,7 @@ public class FWTUIButton extends FWTComponent
 									buttonListener.tryButtonUp();
 									buttonListener.tryButtonPressed(button);
 								}
-							needsRedrawn = true;
+							redraw();
 							return true;
 						}
 
@@ -384,7 +395,7 @@ public class FWTUIButton extends FWTComponent
 							else
 								{
 									pressed = false;
-									needsRedrawn = true;
+									redraw();
 									return true;
 								}
 						}
@@ -393,7 +404,7 @@ public class FWTUIButton extends FWTComponent
 					public boolean dragRelease(int mX, int mY, int pointer)  throws FWTInputException
 						{
 							pressed = false;
-							needsRedrawn = true;
+							redraw();
 							return true;
 						}
 
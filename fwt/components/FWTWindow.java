@@ -98,6 +98,14 @@ public class FWTWindow extends FWTContainer
 	public void setDimming(boolean dim)  { dimming = dim; }
 
 
+	/** 'True' if this window becomes the active window (keyboard focus, front layer) when opened or clicked. */
+	protected boolean focusable = true;
+	/** Returns 'True' if this window becomes the active window when opened or clicked. */
+	public boolean isFocusable()  { return focusable; 	}
+	/** Sets if this window becomes the active window when opened or clicked. */
+	public void setFocusable(boolean focus)  { focusable = focus; }
+
+
 
 
 	// Hidden windows receive updates, but do not render or generate input events.
@@ -488,22 +496,22 @@ public class FWTWindow extends FWTContainer
 			// *************************************************************************
 			if (hasBorderBar)
 				{
-					spriteBatch.begin();
+					UIRenderer.begin(spriteBatch);
 					if (this.getWindowManager().getActiveWindow() != null
 							&& this.getWindowManager().getActiveWindow().getID() == this.getID())
-						UIRenderer.drawThickBorder(this.getID(), spriteBatch, borderColor, 0, 0,
+						UIRenderer.drawThickBorder(spriteBatch, borderColor, 0, 0,
 								dims.width, dims.height);
 					else
-						UIRenderer.drawThickBorder(this.getID(), spriteBatch, passiveBorderColor,
+						UIRenderer.drawThickBorder(spriteBatch, passiveBorderColor,
 								0, 0, dims.width, dims.height);
-					spriteBatch.end();
+					UIRenderer.end(spriteBatch);
 				}
 
 			// Draw Title
 			// *************************************************************************
 			if (title != null && !title.equals(""))
 				{
-					spriteBatch.begin();
+					UIRenderer.begin(spriteBatch);
 					try {
 					Fonts.getFont(22).setColor(Color.BLACK);
 					Fonts.getFont(22).draw(spriteBatch, title, 15, dims.height - 15);
@@ -513,7 +521,7 @@ public class FWTWindow extends FWTContainer
 					// Underline
 					UIRenderer.drawHorizontalLine(spriteBatch, Color.BLACK, 15, dims.width - 50,
 							dims.height - 35, 1);
-					spriteBatch.end();
+					UIRenderer.end(spriteBatch);
 				}
 
 		}
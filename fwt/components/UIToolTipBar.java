@@ -232,27 +232,27 @@ public class UIToolTipBar
 								// Draw fill color
 								if (backgroundColor.a > 0f)
 									{
-										spriteBatch.begin();
+										UIRenderer.begin(spriteBatch);
 										UIRenderer.drawRectangle(spriteBatch, backgroundColor, mX+15,mY-10,width+20,height+10);
-										UIRenderer.drawThinBorder(this.ID, spriteBatch, borderColor, mX+15,mY-10,width+20,height+10);
-										spriteBatch.end();
+										UIRenderer.drawThinBorder(spriteBatch, borderColor, mX+15,mY-10,width+20,height+10);
+										UIRenderer.end(spriteBatch);
 									}
 							}
 						// ELSE has a texture image
 						else
 							{
-								spriteBatch.begin();
+								UIRenderer.begin(spriteBatch);
 								UIRenderer.drawUIImage(spriteBatch, this.ID, bgTexture, mX+15, mY-10, ((int)width)+20, ((int)height)+10, true, false);
-								spriteBatch.end();
+								UIRenderer.end(spriteBatch);
 							}
 
 						// Set Text Color (black)
 						font.setColor(Color.BLACK);
 
 						// Draw String
-						spriteBatch.begin();
+						UIRenderer.begin(spriteBatch);
 						font.draw(spriteBatch, glyphs, mX+23, mY+(height)-5);
-						spriteBatch.end();
+						UIRenderer.end(spriteBatch);
 
 						// Disable mark-up
 						font.getData().markupEnabled = false;
@@ -16,4 +16,14 @@ public class FWTDragNDropEvent extends FWTTouchEvent
 			
 		}
 
+
+
+		/** Resets this event indicating the dragged component. Returns this event. */
+		public FWTDragNDropEvent set(FWTComponent target, FWTEventType type, int mX, int mY, int pointer, int button, FWTComponent draggedComponent)
+		{
+			super.set(target,type,mX,mY,pointer,button);
+			this.draggedComponent = draggedComponent;
+			return this;
+		}
+
 	}
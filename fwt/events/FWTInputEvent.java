@@ -20,6 +20,26 @@ public class FWTInputEvent
 	}
 
 
+	/** Resets this event with the given target and type. Returns this event. */
+	public FWTInputEvent set(FWTComponent target, FWTEventType type)
+	{
+		this.target = target;
+		this.type = type;
+		return this;
+	}
+
+
+	/** 'True' if this event was obtained from a FWTInputEventPool. */
+	boolean pooled = false;
+	/** Returns 'true' if this event was obtained from a FWTInputEventPool. */
+	public boolean isPooled() {return pooled;}
+
+	/** 'True' if this event has been released to its pool and must not be used. */
+	volatile boolean released = false;
+	/** Returns 'true' if this event has been released to its pool and must not be used. */
+	public boolean isReleased() {return released;}
+
+
 
 	/** The type for a FWTInputEvent. */
 	public static enum FWTEventType
@@ -0,0 +1,171 @@
+package com.arboreantears.fwt.events;
+
+import com.arboreantears.fwt.components.FWTComponent;
+import com.arboreantears.fwt.events.FWTInputEvent.FWTEventType;
+
+
+/** Pools of reusable FWTInputEvents, one per event type, so queued input does not allocate in steady state.
+ * <p> Events are obtained when queued and released once dispatched. A released event must not be used again.
+ * <br> Obtaining and releasing may happen on different threads. */
+public class FWTInputEventPool
+{
+
+
+	/** Catches use of released events: released events are poisoned and never reused.
+	 * <br> For debugging only, as the pools stop recycling. */
+	public static boolean DEBUG_RELEASE = false;
+
+	/** Maximum number of free events kept per type. */
+	public static final int MAX_FREE = 128;
+
+
+
+	/** Free events of one type. */
+	static final class EventStack
+	{
+		final FWTInputEvent[] free = new FWTInputEvent[MAX_FREE];
+		int size = 0;
+
+		synchronized FWTInputEvent pop()
+		{
+			if (size == 0) return null;
+			FWTInputEvent event = free[--size];
+			free[size] = null;
+			return event;
+		}
+
+		synchronized void push(FWTInputEvent event)
+		{
+			if (size < MAX_FREE) free[size++] = event;
+		}
+	}
+
+	final EventStack basicEvents = new EventStack();
+	final EventStack touchEvents = new EventStack();
+	final EventStack touchUpEvents = new EventStack();
+	final EventStack dragNDropEvents = new EventStack();
+	final EventStack keyEvents = new EventStack();
+	final EventStack scrollEvents = new EventStack();
+
+
+	/** Number of events created because none were free. */
+	volatile long created = 0;
+	/** Returns the number of events created because none were free. */
+	public long getCreatedCount() {return created;}
+
+
+
+	// OBTAIN
+	//********************************************************************
+	//********************************************************************
+
+	/** Returns a free event of the given pool, or null if none. Marks it in use. */
+	FWTInputEvent take(EventStack stack)
+	{
+		FWTInputEvent event = stack.pop();
+		if (event != null) event.released = false;
+		return event;
+	}
+
+	/** Marks a newly created event as pooled. */
+	<E extends FWTInputEvent> E track(E event)
+	{
+		event.pooled = true;
+		created++;
+		return event;
+	}
+
+
+	/** Obtains a FWTInputEvent with the given target and type. */
+	public FWTInputEvent obtain(FWTComponent target, FWTEventType type)
+	{
+		FWTInputEvent event = take(basicEvents);
+		if (event == null) return track(new FWTInputEvent(target, type));
+		return event.set(target, type);
+	}
+
+	/** Obtains a FWTTouchEvent with the given parameters. */
+	public FWTTouchEvent obtainTouch(FWTComponent target, FWTEventType type, int mX, int mY, int pointer, int button)
+	{
+		FWTTouchEvent event = (FWTTouchEvent) take(touchEvents);
+		if (event == null) return track(new FWTTouchEvent(target, type, mX, mY, pointer, button));
+		return event.set(target, type, mX, mY, pointer, button);
+	}
+
+	/** Obtains a FWTTouchUpEvent with the given parameters. */
+	public FWTTouchUpEvent obtainTouchUp(FWTComponent target, FWTEventType type, int mX, int mY, int pointer, int button, FWTComponent touchDownComp)
+	{
+		FWTTouchUpEvent event = (FWTTouchUpEvent) take(touchUpEvents);
+		if (event == null) return track(new FWTTouchUpEvent(target, type, mX, mY, pointer, button, touchDownComp));
+		return event.set(target, type, mX, mY, pointer, button, touchDownComp);
+	}
+
+	/** Obtains a FWTDragNDropEvent with the given parameters. */
+	public FWTDragNDropEvent obtainDragNDrop(FWTComponent target, FWTEventType type, int mX, int mY, int pointer, int button, FWTComponent draggedComp)
+	{
+		FWTDragNDropEvent event = (FWTDragNDropEvent) take(dragNDropEvents);
+		if (event == null) return track(new FWTDragNDropEvent(target, type, mX, mY, pointer, button, draggedComp));
+		return event.set(target, type, mX, mY, pointer, button, draggedComp);
+	}
+
+	/** Obtains a FWTKeyEvent with the given parameters. */
+	public FWTKeyEvent obtainKey(FWTComponent target, FWTEventType type, int keycode)
+	{
+		FWTKeyEvent event = (FWTKeyEvent) take(keyEvents);
+		if (event == null) return track(new FWTKeyEvent(target, type, keycode));
+		return event.set(target, type, keycode);
+	}
+
+	/** Obtains a FWTScrollEvent with the given parameters. */
+	public FWTScrollEvent obtainScroll(FWTComponent target, FWTEventType type, float amountX, float amountY)
+	{
+		FWTScrollEvent event = (FWTScrollEvent) take(scrollEvents);
+		if (event == null) return track(new FWTScrollEvent(target, type, amountX, amountY));
+		return event.set(target, type, amountX, amountY);
+	}
+
+
+
+	// RELEASE
+	//********************************************************************
+	//********************************************************************
+
+	/** Returns the given event to its pool once dispatched. Events not obtained from a pool are ignored.
+	 * <br> Throws an IllegalStateException if the event was already released. */
+	public void release(FWTInputEvent event)
+	{
+		if (event == null || !event.pooled) return;
+		if (event.released)
+			throw new IllegalStateException("FWTInputEventPool: Event released twice: "+event.type);
+		event.released = true;
+		event.target = null;
+
+		// Poison and never reuse
+		if (DEBUG_RELEASE) return;
+
+		if (event instanceof FWTTouchUpEvent)
+			{((FWTTouchUpEvent) event).touchDownComponent = null; touchUpEvents.push(event);}
+		else if (event instanceof FWTDragNDropEvent)
+			{((FWTDragNDropEvent) event).draggedComponent = null; dragNDropEvents.push(event);}
+		else if (event instanceof FWTTouchEvent)
+			touchEvents.push(event);
+		else if (event instanceof FWTKeyEvent)
+			keyEvents.push(event);
+		else if (event instanceof FWTScrollEvent)
+			scrollEvents.push(event);
+		else if (event.getClass() == FWTInputEvent.class)
+			basicEvents.push(event);
+	}
+
+
+	/** Throws an IllegalStateException if the given event has been released. */
+	public static void checkNotReleased(FWTInputEvent event)
+	{
+		if (event.released)
+			throw new IllegalStateException("FWTInputEventPool: Use of released event: "+event.type);
+	}
+
+
+
+
+}
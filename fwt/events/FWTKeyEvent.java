@@ -20,4 +20,14 @@ public class FWTKeyEvent extends FWTInputEvent
 			this.keycode = keycode;
 
 		}
+
+
+
+	/** Resets this event with the given parameters. Returns this event. */
+	public FWTKeyEvent set(FWTComponent target, FWTEventType type, int keycode)
+		{
+			super.set(target,type);
+			this.keycode = keycode;
+			return this;
+		}
 }
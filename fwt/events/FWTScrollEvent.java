@@ -29,4 +29,15 @@ public class FWTScrollEvent extends FWTInputEvent
 
 
 
+	/** Resets this event with the given parameters. Returns this event. */
+	public FWTScrollEvent set(FWTComponent target, FWTEventType type, float amountX, float amountY)
+		{
+			super.set(target,type);
+			this.amountX = amountX;
+			this.amountY = amountY;
+			return this;
+		}
+
+
+
 }
\ No newline at end of file
@@ -14,4 +14,23 @@ public class FWTTask
 			// Expected to be overridden during instantiation
 		}
 
+		/** Called instead of process() when this FWTTask is discarded without being processed (e.g. its window manager is disposed). */
+		public void cancel()
+		{
+			// Overridden by tasks another thread is waiting on
+		}
+
+
+
+		/** Scheduling priority for a FWTTask. Higher priority tasks are processed first. */
+		public static enum Priority
+		{
+			/** Processed before all others (e.g. work another thread is waiting on). */
+			HIGH,
+			/** Default priority. */
+			NORMAL,
+			/** Processed when no other tasks are waiting (e.g. background preparation). */
+			LOW
+		}
+
 	}
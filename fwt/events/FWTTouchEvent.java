@@ -32,6 +32,18 @@ public class FWTTouchEvent extends FWTInputEvent
 		}
 
 
+	/** Resets this event with the given parameters. Returns this event. */
+	public FWTTouchEvent set(FWTComponent target, FWTEventType type, int mX, int mY, int pointer, int button)
+		{
+			super.set(target,type);
+			this.mX = mX;
+			this.mY = mY;
+			this.pointer = pointer;
+			this.button = button;
+			return this;
+		}
+
+
 
 
 }
@@ -20,6 +20,16 @@ public class FWTTouchUpEvent extends FWTTouchEvent
 
 
 
+	/** Resets this event indicating the component that received the touch-down event. Returns this event. */
+	public FWTTouchUpEvent set(FWTComponent target, FWTEventType type, int mX, int mY, int pointer, int button, FWTComponent touchDownComp)
+	{
+		super.set(target,type,mX,mY,pointer,button);
+		this.touchDownComponent = touchDownComp;
+		return this;
+	}
+
+
+
 
 
 }